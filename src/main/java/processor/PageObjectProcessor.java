@@ -0,0 +1,222 @@
+package processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compile-time replacement for PageFactory.
+ * For every page class with @FindBy fields generates a {@code <Page>_Elements} class
+ * whose {@code bind(page, context)} assigns each field a locator-backed element,
+ * without reflection or dynamic proxies. Invalid locators and unsupported fields
+ * are reported as compilation errors.
+ */
+@SupportedAnnotationTypes(PageObjectProcessor.FIND_BY)
+public class PageObjectProcessor extends AbstractProcessor {
+
+    static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String WEB_ELEMENT_LIST = "java.util.List<org.openqa.selenium.WebElement>";
+
+    private static final Map<String, String> STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        STRATEGIES.put("id", "By.id");
+        STRATEGIES.put("name", "By.name");
+        STRATEGIES.put("className", "By.className");
+        STRATEGIES.put("css", "By.cssSelector");
+        STRATEGIES.put("tagName", "By.tagName");
+        STRATEGIES.put("linkText", "By.linkText");
+        STRATEGIES.put("partialLinkText", "By.partialLinkText");
+        STRATEGIES.put("xpath", "By.xpath");
+    }
+
+    private static final Map<String, String> HOW_STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        HOW_STRATEGIES.put("ID", "id");
+        HOW_STRATEGIES.put("NAME", "name");
+        HOW_STRATEGIES.put("CLASS_NAME", "className");
+        HOW_STRATEGIES.put("CSS", "css");
+        HOW_STRATEGIES.put("TAG_NAME", "tagName");
+        HOW_STRATEGIES.put("LINK_TEXT", "linkText");
+        HOW_STRATEGIES.put("PARTIAL_LINK_TEXT", "partialLinkText");
+        HOW_STRATEGIES.put("XPATH", "xpath");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, Map<String, String>> pages = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement page = (TypeElement) element.getEnclosingElement();
+                String binding = bindField((VariableElement) element);
+                if (binding != null) {
+                    pages.computeIfAbsent(page, key -> new LinkedHashMap<>())
+                            .put(element.getSimpleName().toString(), binding);
+                }
+            }
+        }
+        for (Map.Entry<TypeElement, Map<String, String>> page : pages.entrySet()) {
+            writeBinder(page.getKey(), page.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Validate an annotated field and build its initializer expression.
+     * @param field field annotated with @FindBy
+     * @return initializer expression or null if the field is invalid
+     */
+    private String bindField(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            return error(field, "@FindBy field must be a package-private or protected instance field, not private, static or final");
+        }
+        if (field.getEnclosingElement().getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            return error(field, "@FindBy fields are only supported in top-level page classes");
+        }
+        String type = field.asType().toString();
+        String elementClass;
+        if (WEB_ELEMENT.equals(type)) {
+            elementClass = "LocatedElement";
+        } else if (WEB_ELEMENT_LIST.equals(type)) {
+            elementClass = "LocatedElementList";
+        } else {
+            return error(field, "@FindBy field must be WebElement or List<WebElement>, found " + type);
+        }
+        String locator = locator(field);
+        return locator == null ? null : "new " + elementClass + "(context, " + locator + ")";
+    }
+
+    private String locator(VariableElement field) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!FIND_BY.equals(mirror.getAnnotationType().toString())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue().toString());
+            }
+        }
+        String how = values.remove("how");
+        String using = values.remove("using");
+        if (how != null || using != null) {
+            String strategy = HOW_STRATEGIES.get(how);
+            if (strategy == null || using == null) {
+                return error(field, "@FindBy how/using requires both attributes and a strategy other than " + how);
+            }
+            values.put(strategy, using);
+        }
+        if (values.size() != 1) {
+            return error(field, "@FindBy must use exactly one locator strategy, found " + values.keySet());
+        }
+        Map.Entry<String, String> strategy = values.entrySet().iterator().next();
+        String value = strategy.getValue();
+        if (value.trim().isEmpty()) {
+            return error(field, "@FindBy " + strategy.getKey() + " must not be empty");
+        }
+        String problem = "xpath".equals(strategy.getKey()) ? checkXpath(value)
+                : "css".equals(strategy.getKey()) ? checkCss(value) : null;
+        if (problem != null) {
+            return error(field, "Invalid @FindBy " + strategy.getKey() + " \"" + value + "\": " + problem);
+        }
+        return STRATEGIES.get(strategy.getKey()) + "(\"" + escape(value) + "\")";
+    }
+
+    private static String checkXpath(String xpath) {
+        try {
+            XPathFactory.newInstance().newXPath().compile(xpath);
+            return null;
+        } catch (XPathExpressionException e) {
+            return e.getMessage() != null ? e.getMessage() : String.valueOf(e.getCause());
+        }
+    }
+
+    private static String checkCss(String css) {
+        int brackets = 0;
+        int parentheses = 0;
+        char quote = 0;
+        for (char c : css.toCharArray()) {
+            if (quote != 0) {
+                quote = c == quote ? 0 : quote;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '(') {
+                parentheses++;
+            } else if (c == ')') {
+                parentheses--;
+            }
+            if (brackets < 0 || parentheses < 0) {
+                return "unbalanced brackets";
+            }
+        }
+        if (quote != 0) {
+            return "unterminated string";
+        }
+        return brackets != 0 || parentheses != 0 ? "unbalanced brackets" : null;
+    }
+
+    private void writeBinder(TypeElement page, Map<String, String> bindings) {
+        String packageName = ((PackageElement) page.getEnclosingElement()).getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String binderName = pageName + "_Elements";
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("import org.openqa.selenium.By;\n")
+                .append("import org.openqa.selenium.SearchContext;\n")
+                .append("import utils.LocatedElement;\n")
+                .append("import utils.LocatedElementList;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("@Generated(\"").append(PageObjectProcessor.class.getName()).append("\")\n")
+                .append("final class ").append(binderName).append(" {\n\n")
+                .append("    private ").append(binderName).append("() {\n    }\n\n")
+                .append("    static void bind(").append(pageName).append(" page, SearchContext context) {\n");
+        for (Map.Entry<String, String> binding : bindings.entrySet()) {
+            source.append("        page.").append(binding.getKey()).append(" = ").append(binding.getValue()).append(";\n");
+        }
+        source.append("    }\n}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + binderName, page).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + binderName + ": " + e, page);
+        }
+    }
+
+    private String error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -1,39 +1,65 @@
 package config;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Configuration reader utility class.
- * Loads and provides access to configuration properties from config.properties file.
+ * Provides access to the layered configuration snapshot (see {@link ConfigSnapshot}),
+ * with optional per-thread overrides for parallel browser and device matrices.
  */
 public class ConfigReader {
 
-    private static Properties properties;
     private static final String CONFIG_PATH = "src/test/resources/config.properties";
+    private static final ConfigSnapshot baseSnapshot = ConfigSnapshot.load(CONFIG_PATH);
+    private static final ThreadLocal<ConfigSnapshot> threadSnapshot = new ThreadLocal<>();
 
-    static {
-        loadProperties();
+    /**
+     * Get configuration of the current thread.
+     * @return snapshot with thread overrides, or the base snapshot
+     */
+    public static ConfigSnapshot current() {
+        ConfigSnapshot snapshot = threadSnapshot.get();
+        return snapshot != null ? snapshot : baseSnapshot;
     }
 
-    private static void loadProperties() {
-        properties = new Properties();
-        try (InputStream input = new FileInputStream(CONFIG_PATH)) {
-            properties.load(input);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load config.properties file: " + e.getMessage());
+    /**
+     * Get configuration without thread overrides.
+     * @return base snapshot
+     */
+    public static ConfigSnapshot getBaseSnapshot() {
+        return baseSnapshot;
+    }
+
+    /**
+     * Override configuration values for the current thread only.
+     * @param overrides values to replace, empty to use the base configuration
+     */
+    public static void setThreadOverrides(Map<String, String> overrides) {
+        if (overrides.isEmpty()) {
+            threadSnapshot.remove();
+        } else {
+            threadSnapshot.set(baseSnapshot.withOverrides(overrides));
         }
     }
 
+    /**
+     * Remove overrides of the current thread.
+     */
+    public static void clearThreadOverrides() {
+        threadSnapshot.remove();
+    }
+
     /**
      * Get property value by key.
      * @param key property key
      * @return property value or null if not found
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return current().get(key);
     }
 
     /**
@@ -43,7 +69,7 @@ public class ConfigReader {
      * @return property value or default
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return current().get(key, defaultValue);
     }
 
     /**
@@ -52,7 +78,7 @@ public class ConfigReader {
      * @return integer value
      */
     public static int getIntProperty(String key) {
-        return Integer.parseInt(getProperty(key));
+        return current().getInt(key);
     }
 
     /**
@@ -62,8 +88,7 @@ public class ConfigReader {
      * @return integer value
      */
     public static int getIntProperty(String key, int defaultValue) {
-        String value = getProperty(key);
-        return value != null ? Integer.parseInt(value) : defaultValue;
+        return current().getInt(key, defaultValue);
     }
 
     /**
@@ -75,25 +100,44 @@ public class ConfigReader {
         return Boolean.parseBoolean(getProperty(key));
     }
 
+    /**
+     * Get property as boolean with default.
+     * @param key property key
+     * @param defaultValue default value if property not found
+     * @return boolean value
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)));
+    }
+
     // Web configuration getters
     public static String getBrowser() {
-        return getProperty("browser", "chrome");
+        return current().getBrowser();
     }
 
     public static boolean isHeadless() {
-        return getBooleanProperty("headless");
+        return current().isHeadless();
+    }
+
+    public static boolean isDriverCacheEnabled() {
+        return getBooleanProperty("driver.cache.enabled", true);
+    }
+
+    public static String getDriverCacheDir() {
+        String dir = getProperty("driver.cache.dir", "");
+        return dir.isEmpty() ? Paths.get(System.getProperty("user.home"), ".cache", "testing-services", "drivers").toString() : dir;
     }
 
     public static int getImplicitWait() {
-        return getIntProperty("implicit.wait", 10);
+        return current().getImplicitWait();
     }
 
     public static int getExplicitWait() {
-        return getIntProperty("explicit.wait", 15);
+        return current().getExplicitWait();
     }
 
     public static int getPageLoadTimeout() {
-        return getIntProperty("page.load.timeout", 30);
+        return current().getPageLoadTimeout();
     }
 
     public static String getWebBaseUrl() {
@@ -104,11 +148,98 @@ public class ConfigReader {
         return getProperty("web.wikipedia.en.url");
     }
 
+    public static boolean isNetworkCaptureEnabled() {
+        return getBooleanProperty("network.capture.enabled");
+    }
+
+    public static String getNetworkCaptureDir() {
+        return getProperty("network.capture.dir", "target/network");
+    }
+
+    public static boolean isWebVitalsEnabled() {
+        return getBooleanProperty("web.vitals.enabled");
+    }
+
+    public static int getLinkCheckTimeout() {
+        return getIntProperty("link.check.timeout", 10);
+    }
+
+    public static int getLinkCheckHostInterval() {
+        return getIntProperty("link.check.host.interval", 200);
+    }
+
+    public static boolean isWebAnimationsDisabled() {
+        return getBooleanProperty("web.disable.animations", true);
+    }
+
+    public static boolean isStateIsolationEnabled() {
+        return getBooleanProperty("state.isolation.enabled", true);
+    }
+
+    /**
+     * Get origins whose storage is cleared between web tests.
+     * @return configured origins or the base and English Wikipedia URLs
+     */
+    public static List<String> getStateIsolationOrigins() {
+        String origins = getProperty("state.isolation.origins", "");
+        if (origins.trim().isEmpty()) {
+            return Arrays.asList(getWebBaseUrl(), getWikipediaEnUrl());
+        }
+        return Arrays.stream(origins.split(","))
+                .map(String::trim)
+                .filter(origin -> !origin.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public static List<String> getBrowserMatrix() {
+        return Arrays.stream(getProperty("browser.matrix", "").split(","))
+                .map(String::trim)
+                .filter(browser -> !browser.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public static List<Boolean> getBrowserMatrixHeadless() {
+        String modes = getProperty("browser.matrix.headless", "");
+        if (modes.trim().isEmpty()) {
+            return Arrays.asList(isHeadless());
+        }
+        return Arrays.stream(modes.split(","))
+                .map(String::trim)
+                .filter(mode -> !mode.isEmpty())
+                .map(Boolean::parseBoolean)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    public static int getBrowserMatrixThreads() {
+        return getIntProperty("browser.matrix.threads", 1);
+    }
+
+    public static String getBrowserMatrixReportDir() {
+        return getProperty("browser.matrix.report.dir", "target/matrix");
+    }
+
     // Mobile configuration getters
     public static String getAppiumServerUrl() {
         return getProperty("appium.server.url");
     }
 
+    public static boolean isAppiumServerManaged() {
+        return getBooleanProperty("appium.server.managed", false);
+    }
+
+    public static boolean isAppiumServerPerDevice() {
+        return getBooleanProperty("appium.server.per.device", true);
+    }
+
+    public static int getAppiumServerStartTimeout() {
+        return getIntProperty("appium.server.start.timeout", 60);
+    }
+
+    public static String getAppiumLogDir() {
+        return getProperty("appium.log.dir", "target/appium");
+    }
+
     public static String getAndroidPlatformName() {
         return getProperty("android.platform.name");
     }
@@ -138,10 +269,96 @@ public class ConfigReader {
     }
 
     public static int getMobileImplicitWait() {
-        return getIntProperty("mobile.implicit.wait", 10);
+        return current().getMobileImplicitWait();
     }
 
     public static int getMobileExplicitWait() {
-        return getIntProperty("mobile.explicit.wait", 20);
+        return current().getMobileExplicitWait();
+    }
+
+    public static boolean isDevicePreparationEnabled() {
+        return getBooleanProperty("device.preparation.enabled", true);
+    }
+
+    // Test execution configuration getters
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", false);
+    }
+
+    public static boolean isFlakeRetryEnabled() {
+        return getBooleanProperty("flake.retry.enabled", true);
+    }
+
+    public static String getFlakeHistoryFile() {
+        return getProperty("flake.history.file", ".test-history/flake-history.properties");
+    }
+
+    public static int getFlakeRetryBudget() {
+        return getIntProperty("flake.retry.budget", 2);
+    }
+
+    public static int getFlakeFailFastAfter() {
+        return getIntProperty("flake.fail.fast.after", 3);
+    }
+
+    public static boolean isEnvironmentCheckEnabled() {
+        return getBooleanProperty("env.check.enabled", true);
+    }
+
+    public static int getEnvironmentCheckTimeout() {
+        return getIntProperty("env.check.timeout", 5);
+    }
+
+    public static boolean isSessionPrewarmEnabled() {
+        return getBooleanProperty("session.prewarm.enabled", true);
+    }
+
+    public static int getSessionPrewarmMaxReady() {
+        return getIntProperty("session.prewarm.max.ready", 2);
+    }
+
+    public static int getSessionPrewarmIdleTimeout() {
+        return getIntProperty("session.prewarm.idle.timeout", 1800);
+    }
+
+    public static boolean isWatchdogEnabled() {
+        return getBooleanProperty("watchdog.enabled", true);
+    }
+
+    public static int getTestTimeBudget() {
+        return getIntProperty("test.time.budget", 300);
+    }
+
+    public static boolean isFailureArtifactsEnabled() {
+        return getBooleanProperty("failure.artifacts.enabled", true);
+    }
+
+    public static String getFailureArtifactsDir() {
+        return getProperty("failure.artifacts.dir", "target/failures");
+    }
+
+    public static boolean isLogcatBufferEnabled() {
+        return getBooleanProperty("logcat.buffer.enabled", true);
+    }
+
+    public static int getLogcatBufferLines() {
+        return getIntProperty("logcat.buffer.lines", 2000);
+    }
+
+    public static boolean isBrowserLogEnabled() {
+        return getBooleanProperty("browser.log.enabled", true);
+    }
+
+    public static int getBrowserLogLines() {
+        return getIntProperty("browser.log.lines", 1000);
+    }
+
+    // Benchmark configuration getters
+    public static String getBenchmarkResultsDir() {
+        return getProperty("benchmark.results.dir", "target/benchmarks");
+    }
+
+    public static String getCrawlReportDir() {
+        return getProperty("crawl.report.dir", "target/crawl");
     }
 }
@@ -0,0 +1,201 @@
+package config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable configuration parsed once from layers, each overriding the previous one:
+ * <ol>
+ *     <li>{@code config.properties} on the test classpath</li>
+ *     <li>configuration file ({@code -Dconfig.file}, by default {@code src/test/resources/config.properties})</li>
+ *     <li>environment variables with {@code TS_} prefix, e.g. {@code TS_EXPLICIT_WAIT} for {@code explicit.wait}</li>
+ *     <li>system properties, e.g. {@code -Dbrowser=firefox}</li>
+ *     <li>overrides such as TestNG parameters, see {@link #withOverrides(Map)}</li>
+ * </ol>
+ * Environment variables and system properties only override keys defined in the files.
+ * Timeouts used on every page and driver creation are parsed and validated up front;
+ * other numeric values are parsed on first access and kept.
+ */
+public final class ConfigSnapshot {
+
+    private static final String ENV_PREFIX = "TS_";
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues = new ConcurrentHashMap<>();
+    private final Map<Map<String, String>, ConfigSnapshot> overridden = new ConcurrentHashMap<>();
+    private final String browser;
+    private final boolean headless;
+    private final int implicitWait;
+    private final int explicitWait;
+    private final int pageLoadTimeout;
+    private final int mobileImplicitWait;
+    private final int mobileExplicitWait;
+
+    private ConfigSnapshot(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(values);
+        this.browser = get("browser", "chrome");
+        this.headless = Boolean.parseBoolean(get("headless"));
+        this.implicitWait = getTimeout("implicit.wait", 10);
+        this.explicitWait = getTimeout("explicit.wait", 15);
+        this.pageLoadTimeout = getTimeout("page.load.timeout", 30);
+        this.mobileImplicitWait = getTimeout("mobile.implicit.wait", 10);
+        this.mobileExplicitWait = getTimeout("mobile.explicit.wait", 20);
+    }
+
+    /**
+     * Load configuration from classpath, file, environment and system properties.
+     * @param defaultFile configuration file used when {@code config.file} is not set
+     * @return configuration snapshot
+     */
+    public static ConfigSnapshot load(String defaultFile) {
+        Map<String, String> values = new HashMap<>();
+        try (InputStream input = ConfigSnapshot.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) {
+                putAll(values, input);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load config.properties from classpath: " + e.getMessage());
+        }
+        Path file = Paths.get(System.getProperty("config.file", defaultFile));
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                putAll(values, input);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load configuration file " + file + ": " + e.getMessage());
+            }
+        }
+        if (values.isEmpty()) {
+            throw new RuntimeException("Failed to load config.properties file: not found on classpath or at " + file);
+        }
+        for (String key : values.keySet()) {
+            String envValue = System.getenv(ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+            if (envValue != null) {
+                values.put(key, envValue);
+            }
+        }
+        for (String key : values.keySet()) {
+            String systemValue = System.getProperty(key);
+            if (systemValue != null) {
+                values.put(key, systemValue);
+            }
+        }
+        return new ConfigSnapshot(values);
+    }
+
+    private static void putAll(Map<String, String> values, InputStream input) throws IOException {
+        Properties properties = new Properties();
+        properties.load(input);
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key).trim());
+        }
+    }
+
+    /**
+     * Get snapshot with some values replaced. Snapshots are cached per override set.
+     * @param overrides values to replace
+     * @return this snapshot if there is nothing to override, otherwise a new snapshot
+     */
+    public ConfigSnapshot withOverrides(Map<String, String> overrides) {
+        if (overrides.isEmpty()) {
+            return this;
+        }
+        return overridden.computeIfAbsent(Map.copyOf(overrides), key -> {
+            Map<String, String> merged = new HashMap<>(values);
+            merged.putAll(key);
+            return new ConfigSnapshot(merged);
+        });
+    }
+
+    /**
+     * Check if a key is defined.
+     * @param key property key
+     * @return true if any layer defines the key
+     */
+    public boolean has(String key) {
+        return values.containsKey(key);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Get integer value, parsed once per snapshot.
+     * @param key property key
+     * @return integer value
+     */
+    public int getInt(String key) {
+        if (!values.containsKey(key)) {
+            throw new IllegalStateException("Missing configuration key: " + key);
+        }
+        return getInt(key, 0);
+    }
+
+    /**
+     * Get integer value, parsed once per snapshot.
+     * @param key property key
+     * @param defaultValue value if key is not defined
+     * @return integer value
+     */
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return intValues.computeIfAbsent(key, ignored -> {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Invalid integer for configuration key " + key + ": " + value);
+            }
+        });
+    }
+
+    private int getTimeout(String key, int defaultValue) {
+        int value = getInt(key, defaultValue);
+        if (value < 0) {
+            throw new IllegalStateException("Negative timeout for configuration key " + key + ": " + value);
+        }
+        return value;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public int getImplicitWait() {
+        return implicitWait;
+    }
+
+    public int getExplicitWait() {
+        return explicitWait;
+    }
+
+    public int getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    public int getMobileImplicitWait() {
+        return mobileImplicitWait;
+    }
+
+    public int getMobileExplicitWait() {
+        return mobileExplicitWait;
+    }
+}
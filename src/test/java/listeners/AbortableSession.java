@@ -0,0 +1,18 @@
+package listeners;
+
+/**
+ * Test class owning a driver session that the {@link SessionWatchdogListener} may abort.
+ */
+public interface AbortableSession {
+
+    /**
+     * Abort the session from the watchdog thread.
+     * Must not wait for the hung session: kill driver processes or drop the session instead.
+     */
+    void abortSession();
+
+    /**
+     * Start a fresh session on the test thread after the previous one was aborted.
+     */
+    void restartSession();
+}
@@ -0,0 +1,40 @@
+package listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+import utils.AppiumServerManager;
+
+import java.util.List;
+
+/**
+ * Lifecycle of managed local Appium servers.
+ * Starts servers for the devices planned in the suite XMLs as soon as TestNG has read them, before test
+ * classes are instantiated, and for devices of suites added later at suite start. Runs without mobile
+ * classes start no server. Servers start in the background and are stopped when the whole run finishes.
+ */
+public class AppiumServerListener implements IAlterSuiteListener, IExecutionListener, ISuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        for (XmlSuite suite : suites) {
+            for (String device : new SuitePlan(suite).getDevices()) {
+                AppiumServerManager.start(device);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        for (String device : new SuitePlan(suite).getDevices()) {
+            AppiumServerManager.start(device);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        AppiumServerManager.stopAll();
+    }
+}
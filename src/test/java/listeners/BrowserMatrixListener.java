@@ -0,0 +1,236 @@
+package listeners;
+
+import config.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import tests.web.BaseWebTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cross-browser matrix run.
+ * When {@code browser.matrix} is set, every {@code <test>} with web test classes is expanded into one
+ * {@code <test>} per browser and headless mode; the groups run concurrently ({@code parallel="tests"}),
+ * each on its own pool of {@code browser.matrix.threads} threads for its classes, so the run takes about
+ * as long as the slowest browser. Results are tagged with their group and compared per group
+ * (pass rate and duration) in {@code browser-matrix.csv} at the end of the suite.
+ * Reports and failure artifacts written by the tests are prefixed with their group, see {@link #groupPrefixed(String)}.
+ */
+public class BrowserMatrixListener implements IAlterSuiteListener, ITestListener, ISuiteListener {
+
+    private static final String GROUP = "matrixGroup";
+
+    private final Map<String, GroupStats> groups = new ConcurrentHashMap<>();
+
+    /**
+     * Prefix a report or artifact name with the matrix group of the running test,
+     * so concurrent groups do not overwrite each other's files.
+     * @param name file or artifact name
+     * @return name with group prefix, e.g. {@code firefox-headless-crawl-report.jsonl},
+     * or the name itself outside a matrix run
+     */
+    public static String groupPrefixed(String name) {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result == null ? name : groupPrefixed(result.getTestContext(), name);
+    }
+
+    /**
+     * Prefix a report or artifact name with the matrix group of a test.
+     * @param context test context
+     * @param name file or artifact name
+     * @return name with group prefix or the name itself outside a matrix run
+     */
+    public static String groupPrefixed(ITestContext context, String name) {
+        String group = context.getCurrentXmlTest().getParameter(GROUP);
+        return group == null ? name : group.replace(' ', '-') + "-" + name;
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        List<String> browsers = ConfigReader.getBrowserMatrix();
+        if (browsers.isEmpty()) {
+            return;
+        }
+        List<Boolean> headlessModes = ConfigReader.getBrowserMatrixHeadless();
+        for (XmlSuite suite : suites) {
+            List<XmlTest> expanded = new ArrayList<>();
+            List<XmlTest> originals = new ArrayList<>(suite.getTests());
+            for (XmlTest original : originals) {
+                List<XmlClass> webClasses = new ArrayList<>();
+                for (XmlClass xmlClass : original.getClasses()) {
+                    Class<?> testClass = xmlClass.getSupportClass();
+                    if (testClass != null && BaseWebTest.class.isAssignableFrom(testClass)) {
+                        webClasses.add(xmlClass);
+                    }
+                }
+                if (webClasses.isEmpty()) {
+                    continue;
+                }
+                for (String browser : browsers) {
+                    for (boolean headless : headlessModes) {
+                        String group = browser + (headless ? " headless" : "");
+                        XmlTest copy = new XmlTest(suite);
+                        copy.setName(original.getName() + " [" + group + "]");
+                        Map<String, String> parameters = new HashMap<>(original.getLocalParameters());
+                        parameters.put("browser", browser);
+                        parameters.put("headless", String.valueOf(headless));
+                        parameters.put(GROUP, group);
+                        copy.setParameters(parameters);
+                        List<XmlClass> classes = new ArrayList<>();
+                        for (XmlClass xmlClass : webClasses) {
+                            XmlClass classCopy = new XmlClass(xmlClass.getName());
+                            classCopy.setIncludedMethods(xmlClass.getIncludedMethods());
+                            classCopy.setExcludedMethods(xmlClass.getExcludedMethods());
+                            classes.add(classCopy);
+                        }
+                        copy.setXmlClasses(classes);
+                        int threads = ConfigReader.getBrowserMatrixThreads();
+                        if (threads > 1) {
+                            copy.setParallel(XmlSuite.ParallelMode.CLASSES);
+                            copy.setThreadCount(threads);
+                        }
+                        expanded.add(copy);
+                    }
+                }
+                // Non-browser classes of the test (e.g. unit tests) run once
+                original.getXmlClasses().removeAll(webClasses);
+                if (original.getXmlClasses().isEmpty()) {
+                    suite.getTests().remove(original);
+                }
+            }
+            if (!expanded.isEmpty()) {
+                suite.setParallel(XmlSuite.ParallelMode.TESTS);
+                suite.setThreadCount(Math.max(suite.getThreadCount(), suite.getTests().size()));
+            }
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (!result.wasRetried()) {
+            record(result);
+        }
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result);
+    }
+
+    private void record(ITestResult result) {
+        String group = result.getTestContext().getCurrentXmlTest().getParameter(GROUP);
+        if (group == null) {
+            return;
+        }
+        result.setAttribute(GROUP, group);
+        groups.computeIfAbsent(group, key -> new GroupStats()).add(result);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        String group = context.getCurrentXmlTest().getParameter(GROUP);
+        if (group != null) {
+            groups.computeIfAbsent(group, key -> new GroupStats())
+                    .addWallTime(context.getEndDate().getTime() - context.getStartDate().getTime());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (groups.isEmpty()) {
+            return;
+        }
+        Path report = Paths.get(ConfigReader.getBrowserMatrixReportDir(), "browser-matrix.csv");
+        StringBuilder csv = new StringBuilder("group,tests,passed,failed,skipped,passRate,wallSeconds,testSeconds\n");
+        long slowestWall = 0;
+        long sumWall = 0;
+        for (Map.Entry<String, GroupStats> entry : new TreeMap<>(groups).entrySet()) {
+            GroupStats stats = entry.getValue();
+            slowestWall = Math.max(slowestWall, stats.wallMillis);
+            sumWall += stats.wallMillis;
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%.1f,%.1f%n", entry.getKey(), stats.getTests(),
+                    stats.passed, stats.failed, stats.skipped, stats.getPassRate(),
+                    stats.wallMillis / 1000.0, stats.testMillis / 1000.0));
+            Reporter.log(String.format(Locale.ROOT, "Browser matrix %s: %d/%d passed (%.0f%%), %.0f s",
+                    entry.getKey(), stats.passed, stats.getTests(), stats.getPassRate() * 100, stats.wallMillis / 1000.0), true);
+        }
+        Reporter.log(String.format(Locale.ROOT, "Browser matrix: slowest group %.0f s, groups in sequence %.0f s, report: %s",
+                slowestWall / 1000.0, sumWall / 1000.0, report), true);
+        try {
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            Files.write(report, csv.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write browser matrix report: " + report, e);
+        }
+    }
+
+    /**
+     * Outcome counters and durations of one browser group.
+     */
+    private static class GroupStats {
+
+        private int passed;
+        private int failed;
+        private int skipped;
+        private long testMillis;
+        private long wallMillis;
+
+        synchronized void add(ITestResult result) {
+            switch (result.getStatus()) {
+                case ITestResult.SUCCESS:
+                    passed++;
+                    break;
+                case ITestResult.SKIP:
+                    skipped++;
+                    break;
+                default:
+                    failed++;
+                    break;
+            }
+            testMillis += result.getEndMillis() - result.getStartMillis();
+        }
+
+        synchronized void addWallTime(long millis) {
+            wallMillis += millis;
+        }
+
+        synchronized int getTests() {
+            return passed + failed + skipped;
+        }
+
+        synchronized double getPassRate() {
+            int tests = getTests();
+            return tests == 0 ? 0 : (double) passed / tests;
+        }
+    }
+}
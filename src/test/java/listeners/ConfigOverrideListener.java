@@ -0,0 +1,33 @@
+package listeners;
+
+import config.ConfigReader;
+import config.ConfigSnapshot;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Applies TestNG parameters of the current {@code <test>} as configuration overrides.
+ * Parameters named like configuration keys (e.g. {@code browser}, {@code headless}, {@code explicit.wait})
+ * replace the configured values for the thread running the method, so parallel {@code <test>} workers
+ * of a browser or device matrix each see their own configuration without changing the global one.
+ * Overrides stay in place until the next method invocation on the thread, so session restarts after
+ * the method still see them.
+ */
+public class ConfigOverrideListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        ConfigSnapshot base = ConfigReader.getBaseSnapshot();
+        Map<String, String> overrides = new HashMap<>();
+        for (Map.Entry<String, String> parameter : result.getTestContext().getCurrentXmlTest().getAllParameters().entrySet()) {
+            if (base.has(parameter.getKey()) && !parameter.getValue().isEmpty()) {
+                overrides.put(parameter.getKey(), parameter.getValue());
+            }
+        }
+        ConfigReader.setThreadOverrides(overrides);
+    }
+}
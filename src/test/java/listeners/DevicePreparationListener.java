@@ -0,0 +1,15 @@
+package listeners;
+
+import org.testng.IExecutionListener;
+import utils.DevicePreparation;
+
+/**
+ * Restores device settings changed by {@link DevicePreparation} when the whole run finishes.
+ */
+public class DevicePreparationListener implements IExecutionListener {
+
+    @Override
+    public void onExecutionFinish() {
+        DevicePreparation.restoreAnimationScales();
+    }
+}
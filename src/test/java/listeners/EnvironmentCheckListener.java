@@ -0,0 +1,194 @@
+package listeners;
+
+import config.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import utils.WebDriverFactory;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Suite-level environment health pre-check.
+ * Before any class runs, probes the Appium server status, the Android device list and
+ * browser drivers in parallel, once per suite. Base test classes skip their tests
+ * with the probe's reason instead of waiting for connection timeouts.
+ * Results are reset at the start of every suite, so one failed probe only affects its own suite.
+ * Managed Appium servers are not probed: they are still starting, and a failed start is reported
+ * when the first session asks for the server URL.
+ */
+public class EnvironmentCheckListener implements ISuiteListener {
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
+    private static final Map<String, String> unavailable = new ConcurrentHashMap<>();
+
+    /**
+     * Get reason why an environment component is unavailable.
+     * @param component component key, e.g. "appium", "device:emulator-5554", "browser:chrome"
+     * @return reason or null if available or not checked
+     */
+    public static String getUnavailableReason(String component) {
+        return unavailable.get(component);
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        unavailable.clear();
+        if (!ConfigReader.isEnvironmentCheckEnabled()) {
+            return;
+        }
+        SuitePlan plan = new SuitePlan(suite);
+        Set<String> browsers = plan.getBrowsers();
+        Set<String> devices = plan.getDevices();
+
+        int timeout = ConfigReader.getEnvironmentCheckTimeout();
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "env-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<?>> probes = new ArrayList<>();
+            if (!devices.isEmpty()) {
+                if (!ConfigReader.isAppiumServerManaged()) {
+                    probes.add(probeAsync(executor, timeout, Set.of("appium"), () -> probe("appium", this::checkAppium)));
+                }
+                probes.add(probeAsync(executor, timeout,
+                        devices.stream().map(device -> "device:" + device).collect(Collectors.toSet()),
+                        () -> checkDevices(devices)));
+            }
+            for (String browser : browsers) {
+                String component = "browser:" + browser;
+                // Resolving the driver may download it on the first run, so only the driver probe is timed
+                probes.add(CompletableFuture.supplyAsync(() -> WebDriverFactory.setupDriver(browser), executor)
+                        .thenCompose(driverPath -> probeAsync(executor, timeout, Set.of(component),
+                                () -> probe(component, () -> checkDriver(driverPath))))
+                        .exceptionally(error -> {
+                            Throwable cause = error.getCause() != null ? error.getCause() : error;
+                            unavailable.putIfAbsent(component, component + " unavailable: driver not resolved - "
+                                    + cause.getClass().getSimpleName());
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            // Interrupt probes that are still hanging
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run probe on the executor. Components whose probe is still pending after the timeout
+     * are marked unavailable, since a hung server or browser is what the check should catch.
+     * @param executor probe executor
+     * @param timeoutSeconds probe timeout
+     * @param components components covered by the probe
+     * @param check probe
+     * @return future completed when the probe finished or timed out
+     */
+    private static CompletableFuture<Void> probeAsync(ExecutorService executor, int timeoutSeconds,
+                                                      Set<String> components, Runnable check) {
+        return CompletableFuture.runAsync(check, executor)
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .exceptionally(error -> {
+                    for (String component : components) {
+                        unavailable.putIfAbsent(component, component + " unavailable: no response within "
+                                + timeoutSeconds + " s");
+                    }
+                    return null;
+                });
+    }
+
+    private static void probe(String component, ProbeCheck check) {
+        try {
+            check.run();
+        } catch (Exception e) {
+            unavailable.put(component, component + " unavailable: " + e.getClass().getSimpleName()
+                    + (e.getMessage() != null ? " - " + e.getMessage().split("\n")[0] : ""));
+        }
+    }
+
+    /**
+     * Check status of the configured external Appium server.
+     */
+    private void checkAppium() throws Exception {
+        String statusUrl = ConfigReader.getAppiumServerUrl().replaceAll("/+$", "") + "/status";
+        HttpResponse<Void> response = HttpClient.newBuilder()
+                .connectTimeout(PROBE_TIMEOUT)
+                .build()
+                .send(HttpRequest.newBuilder(URI.create(statusUrl)).timeout(PROBE_TIMEOUT).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + statusUrl + " returned " + response.statusCode());
+        }
+    }
+
+    /**
+     * Check that devices are attached using adb. Skipped if adb is not installed.
+     * @param devices expected device serials
+     */
+    private void checkDevices(Set<String> devices) {
+        Set<String> attached;
+        try {
+            Process process = new ProcessBuilder("adb", "devices").redirectErrorStream(true).start();
+            if (!process.waitFor(PROBE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                return;
+            }
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                attached = reader.lines()
+                        .filter(line -> line.endsWith("\tdevice"))
+                        .map(line -> line.substring(0, line.indexOf('\t')))
+                        .collect(Collectors.toSet());
+            }
+        } catch (Exception e) {
+            // adb not available locally (e.g. remote Appium server), device can not be checked
+            return;
+        }
+        for (String device : devices) {
+            if (!attached.contains(device)) {
+                unavailable.put("device:" + device, "device:" + device + " unavailable: not listed by adb devices "
+                        + attached);
+            }
+        }
+    }
+
+    /**
+     * Check that the resolved browser driver runs, without starting a browser.
+     * @param driverPath driver binary path
+     */
+    private void checkDriver(String driverPath) throws Exception {
+        Process process = new ProcessBuilder(driverPath, "--version").redirectErrorStream(true).start();
+        if (!process.waitFor(PROBE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(driverPath + " --version did not respond");
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException(driverPath + " --version exited with " + process.exitValue());
+        }
+    }
+
+    /**
+     * Environment probe that may fail with an exception.
+     */
+    private interface ProbeCheck {
+        void run() throws Exception;
+    }
+}
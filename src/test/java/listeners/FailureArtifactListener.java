@@ -0,0 +1,123 @@
+package listeners;
+
+import config.ConfigReader;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import tests.mobile.BaseMobileTest;
+import tests.web.BaseWebTest;
+import utils.BrowserLogBuffer;
+import utils.FailureArtifacts;
+import utils.LogcatBuffer;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Failure artifact capture for web and mobile tests.
+ * On failure grabs the screenshot, page source, log tail and current URL or activity
+ * with one driver command each, and hands them to {@link FailureArtifacts} for writing
+ * in the background, so the next test starts immediately.
+ */
+public class FailureArtifactListener implements ITestListener, ISuiteListener {
+
+    private static final int LOG_TAIL_LINES = 200;
+
+    private FailureArtifacts artifacts;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ConfigReader.isFailureArtifactsEnabled()) {
+            artifacts = new FailureArtifacts(Paths.get(ConfigReader.getFailureArtifactsDir()));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (artifacts != null) {
+            artifacts.close();
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (artifacts == null) {
+            return;
+        }
+        Object instance = result.getInstance();
+        WebDriver driver;
+        LogcatBuffer logcatBuffer = null;
+        BrowserLogBuffer browserLog = null;
+        if (instance instanceof BaseWebTest) {
+            driver = ((BaseWebTest) instance).getDriver();
+            browserLog = ((BaseWebTest) instance).getBrowserLog();
+        } else if (instance instanceof BaseMobileTest) {
+            driver = ((BaseMobileTest) instance).getDriver();
+            logcatBuffer = ((BaseMobileTest) instance).getLogcatBuffer();
+        } else {
+            return;
+        }
+        String name = BrowserMatrixListener.groupPrefixed(result.getTestContext(),
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName());
+        FailureArtifacts.Capture capture = artifacts.capture(name);
+        if (logcatBuffer != null) {
+            capture.text("logcat.txt", logcatBuffer.dump());
+        }
+        if (browserLog != null) {
+            capture.text("console.txt", browserLog.dump());
+        }
+        // After a watchdog timeout the driver already belongs to a fresh session
+        if (driver != null && result.getAttribute(SessionWatchdogListener.TIMED_OUT) == null) {
+            captureSession(capture, driver, logcatBuffer == null && browserLog == null);
+        }
+        capture.submit();
+        result.setAttribute("failure.artifacts", capture.getManifestFile());
+        Reporter.log("Failure artifacts: " + capture.getManifestFile());
+    }
+
+    private static void captureSession(FailureArtifacts.Capture capture, WebDriver driver, boolean withLogTail) {
+        try {
+            capture.screenshot(((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64));
+        } catch (Exception e) {
+            // Session is gone or screenshots are not supported
+        }
+        try {
+            capture.text(driver instanceof AndroidDriver ? "page.xml" : "page.html", driver.getPageSource());
+        } catch (Exception e) {
+            // Session is gone
+        }
+        try {
+            if (driver instanceof AndroidDriver) {
+                capture.property("activity", ((AndroidDriver) driver).currentActivity());
+            } else {
+                capture.property("url", driver.getCurrentUrl());
+            }
+        } catch (Exception e) {
+            // Session is gone
+        }
+        if (withLogTail) {
+            try {
+                capture.text("log.txt", getLogTail(driver));
+            } catch (Exception e) {
+                // Log type not supported by the driver
+            }
+        }
+    }
+
+    private static String getLogTail(WebDriver driver) {
+        String logType = driver instanceof AndroidDriver ? "logcat" : LogType.BROWSER;
+        List<LogEntry> entries = driver.manage().logs().get(logType).getAll();
+        return entries.subList(Math.max(0, entries.size() - LOG_TAIL_LINES), entries.size()).stream()
+                .map(LogEntry::toString)
+                .collect(Collectors.joining("\n"));
+    }
+}
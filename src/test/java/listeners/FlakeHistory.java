@@ -0,0 +1,128 @@
+package listeners;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Local history of test outcomes used to detect flaky tests.
+ * Stored as properties: {@code <class>.<method>=runs,failures,flakes,consecutiveFailures}.
+ */
+public class FlakeHistory {
+
+    private final Path file;
+    private final Properties records = new Properties();
+
+    public FlakeHistory(Path file) {
+        this.file = file;
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                records.load(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load flake history: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Get outcome record of a test.
+     * @param testId test identifier
+     * @return record, all zeros for a new test
+     */
+    public synchronized Record get(String testId) {
+        return Record.parse(records.getProperty(testId));
+    }
+
+    /**
+     * Record final outcome of a test invocation.
+     * @param testId test identifier
+     * @param passed true if the test finally passed
+     * @param retried true if the test needed at least one rerun
+     */
+    public synchronized void record(String testId, boolean passed, boolean retried) {
+        Record record = get(testId);
+        record.runs++;
+        if (passed) {
+            record.consecutiveFailures = 0;
+            if (retried) {
+                record.flakes++;
+            }
+        } else {
+            record.failures++;
+            record.consecutiveFailures++;
+        }
+        records.setProperty(testId, record.toString());
+    }
+
+    /**
+     * Save history to disk.
+     */
+    public synchronized void save() {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream output = Files.newOutputStream(file)) {
+                records.store(output, "Test outcome history: runs,failures,flakes,consecutiveFailures");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save flake history: " + file, e);
+        }
+    }
+
+    /**
+     * Outcome counters of one test.
+     */
+    public static class Record {
+
+        private int runs;
+        private int failures;
+        private int flakes;
+        private int consecutiveFailures;
+
+        private static Record parse(String value) {
+            Record record = new Record();
+            if (value != null) {
+                String[] parts = value.split(",");
+                if (parts.length == 4) {
+                    record.runs = Integer.parseInt(parts[0].trim());
+                    record.failures = Integer.parseInt(parts[1].trim());
+                    record.flakes = Integer.parseInt(parts[2].trim());
+                    record.consecutiveFailures = Integer.parseInt(parts[3].trim());
+                }
+            }
+            return record;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public int getFlakes() {
+            return flakes;
+        }
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        /**
+         * Get share of runs that passed only after a rerun.
+         * @return flake rate in range 0..1
+         */
+        public double getFlakeRate() {
+            return runs == 0 ? 0 : (double) flakes / runs;
+        }
+
+        @Override
+        public String toString() {
+            return runs + "," + failures + "," + flakes + "," + consecutiveFailures;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package listeners;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retry analyzer with per-test rerun budgets based on flake history.
+ * Reruns happen on the same test class instance, so they reuse the warm driver session.
+ */
+public class FlakeRetryAnalyzer implements IRetryAnalyzer {
+
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String key = invocationKey(result);
+        int used = attempts.getOrDefault(key, 0);
+        if (used >= FlakeRetryListener.getRetryBudget(testId(result))) {
+            return false;
+        }
+        attempts.put(key, used + 1);
+        return true;
+    }
+
+    /**
+     * Get number of reruns used by the test invocation.
+     * @param result test result
+     * @return rerun count
+     */
+    public int getAttempts(ITestResult result) {
+        return attempts.getOrDefault(invocationKey(result), 0);
+    }
+
+    /**
+     * Get identifier of the test method used in flake history.
+     * @param result test result
+     * @return fully qualified method name
+     */
+    static String testId(ITestResult result) {
+        return result.getTestClass().getName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static String invocationKey(ITestResult result) {
+        return testId(result) + Arrays.toString(result.getParameters());
+    }
+}
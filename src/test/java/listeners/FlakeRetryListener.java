@@ -0,0 +1,93 @@
+package listeners;
+
+import config.ConfigReader;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.ITestAnnotation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
+
+/**
+ * Flake-aware retry layer.
+ * Attaches {@link FlakeRetryAnalyzer} to every test, keeps a local history of flake rates
+ * and gives each test a rerun budget: known flaky tests get more reruns, new tests get one,
+ * consistently failing tests fail fast without reruns.
+ * Registered through {@code META-INF/services}, since annotation transformers can not be added with @Listeners.
+ */
+public class FlakeRetryListener implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    private static FlakeHistory history;
+
+    /**
+     * Get flake history, loading it on first use.
+     * @return flake history
+     */
+    static synchronized FlakeHistory getHistory() {
+        if (history == null) {
+            history = new FlakeHistory(Paths.get(ConfigReader.getFlakeHistoryFile()));
+        }
+        return history;
+    }
+
+    /**
+     * Get number of reruns allowed for a test.
+     * @param testId fully qualified test method name
+     * @return rerun budget
+     */
+    static int getRetryBudget(String testId) {
+        FlakeHistory.Record record = getHistory().get(testId);
+        if (record.getConsecutiveFailures() >= ConfigReader.getFlakeFailFastAfter()) {
+            return 0;
+        }
+        if (record.getFlakes() > 0) {
+            return ConfigReader.getFlakeRetryBudget();
+        }
+        return 1;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (ConfigReader.isFlakeRetryEnabled()) {
+            annotation.setRetryAnalyzer(FlakeRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        int attempts = getAttempts(result);
+        getHistory().record(FlakeRetryAnalyzer.testId(result), true, attempts > 0);
+        if (attempts > 0) {
+            result.setAttribute("flaky", true);
+            Reporter.log("Flaky: passed after " + attempts + " rerun(s)");
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        getHistory().record(FlakeRetryAnalyzer.testId(result), false, getAttempts(result) > 0);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (FlakeRetryListener.class) {
+            if (history != null) {
+                history.save();
+                // The next suite in this JVM reloads the saved history instead of reusing this one
+                history = null;
+            }
+        }
+    }
+
+    private static int getAttempts(ITestResult result) {
+        IRetryAnalyzer analyzer = result.getMethod().getRetryAnalyzer(result);
+        return analyzer instanceof FlakeRetryAnalyzer ? ((FlakeRetryAnalyzer) analyzer).getAttempts(result) : 0;
+    }
+}
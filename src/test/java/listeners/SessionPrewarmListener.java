@@ -0,0 +1,58 @@
+package listeners;
+
+import config.ConfigReader;
+import io.appium.java_client.android.AndroidDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import tests.mobile.BaseMobileTest;
+import utils.SessionPrewarmer;
+import utils.WebDriverFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Starts the WebDriver and Appium sessions planned in a suite in the background at suite start,
+ * so browser and app startup overlap with each other and with earlier test classes.
+ * Registered after {@link EnvironmentCheckListener}, so unavailable browsers and devices are not pre-warmed.
+ */
+public class SessionPrewarmListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.isSessionPrewarmEnabled()) {
+            return;
+        }
+        SuitePlan plan = new SuitePlan(suite);
+        int maxReady = ConfigReader.getSessionPrewarmMaxReady();
+        for (boolean headless : new boolean[] {false, true}) {
+            for (Map.Entry<String, Integer> entry : plan.getBrowserClasses(headless).entrySet()) {
+                String browser = entry.getKey();
+                if (EnvironmentCheckListener.getUnavailableReason("browser:" + browser) == null) {
+                    SessionPrewarmer.prewarm(SessionPrewarmer.browserKey(browser, headless), entry.getValue(), maxReady,
+                            () -> WebDriverFactory.create(browser, headless), driver -> driver.getWindowHandle() != null);
+                }
+            }
+        }
+        if (EnvironmentCheckListener.getUnavailableReason("appium") != null) {
+            return;
+        }
+        // Keep the waiting session alive while earlier (e.g. web) classes run
+        Duration idleTimeout = Duration.ofSeconds(ConfigReader.getSessionPrewarmIdleTimeout());
+        for (Map.Entry<String, String> entry : plan.getDevicePlatformVersions().entrySet()) {
+            String device = entry.getKey();
+            String platformVersion = entry.getValue();
+            if (EnvironmentCheckListener.getUnavailableReason("device:" + device) == null) {
+                // Only the first, app-resetting session of a device; later sessions reuse its prepared state
+                SessionPrewarmer.prewarm("device:" + device, 1, 1,
+                        () -> BaseMobileTest.openSession(device, platformVersion, false, idleTimeout),
+                        driver -> ((AndroidDriver) driver).currentActivity() != null);
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        SessionPrewarmer.discardAll();
+    }
+}
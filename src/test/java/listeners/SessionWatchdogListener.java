@@ -0,0 +1,129 @@
+package listeners;
+
+import config.ConfigReader;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hung-session watchdog.
+ * Gives every test method of an {@link AbortableSession} class a time budget. When the budget
+ * is exceeded, the session is aborted from a watchdog thread (killing driver and browser processes),
+ * which unblocks the stuck driver command; the test fails with a timeout and a fresh session
+ * is started on the same thread, so one hung session does not stall a parallel worker.
+ */
+public class SessionWatchdogListener implements IInvokedMethodListener {
+
+    static final String TIMED_OUT = "watchdog.timeout";
+
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int ABORTING = 2;
+
+    // Several threads, so one slow abort does not delay the watchdogs of other parallel tests
+    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "session-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<ITestResult, Watch> watches = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        Object instance = result.getInstance();
+        if (!ConfigReader.isWatchdogEnabled() || !method.isTestMethod() || !(instance instanceof AbortableSession)) {
+            return;
+        }
+        int budget = getBudgetSeconds(method.getTestMethod().getConstructorOrMethod().getMethod(),
+                result.getTestClass().getRealClass());
+        if (budget <= 0) {
+            return;
+        }
+        Thread testThread = Thread.currentThread();
+        Watch watch = new Watch();
+        watches.put(result, watch);
+        watch.timer = scheduler.schedule(() -> {
+            // The test may have finished at the budget boundary; only abort a still running test
+            if (!watch.state.compareAndSet(RUNNING, ABORTING)) {
+                return;
+            }
+            try {
+                result.setAttribute(TIMED_OUT, budget);
+                try {
+                    ((AbortableSession) instance).abortSession();
+                } catch (Exception e) {
+                    // Session already gone
+                }
+                testThread.interrupt();
+            } finally {
+                watch.aborted.countDown();
+            }
+        }, budget, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Watch watch = watches.remove(result);
+        if (watch == null) {
+            return;
+        }
+        if (watch.state.compareAndSet(RUNNING, FINISHED)) {
+            watch.timer.cancel(false);
+            return;
+        }
+        // The watchdog won: wait until its abort and interrupt are done before cleaning up after them
+        while (true) {
+            try {
+                watch.aborted.await();
+                break;
+            } catch (InterruptedException e) {
+                // Interrupt sent by the watchdog itself
+            }
+        }
+        // Clear interrupt left by the watchdog, so the restart and next tests are not affected
+        Thread.interrupted();
+        Object budget = result.getAttribute(TIMED_OUT);
+        result.setStatus(ITestResult.FAILURE);
+        result.setThrowable(new TimeoutException("Test exceeded time budget of " + budget
+                + " s, driver session aborted by watchdog"));
+        Reporter.log("Watchdog: session aborted after " + budget + " s, restarting");
+        ((AbortableSession) result.getInstance()).restartSession();
+    }
+
+    /**
+     * Get time budget of a test method.
+     * @param testMethod test method
+     * @param testClass class of the test instance, may be a subclass of the declaring class
+     * @return budget in seconds from {@link TimeBudget} or configuration
+     */
+    static int getBudgetSeconds(Method testMethod, Class<?> testClass) {
+        TimeBudget budget = testMethod.getAnnotation(TimeBudget.class);
+        for (Class<?> type = testClass; budget == null && type != null; type = type.getSuperclass()) {
+            budget = type.getAnnotation(TimeBudget.class);
+        }
+        return budget != null ? budget.seconds() : ConfigReader.getTestTimeBudget();
+    }
+
+    /**
+     * Watchdog state of one test invocation.
+     */
+    private static class Watch {
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private final CountDownLatch aborted = new CountDownLatch(1);
+        private volatile ScheduledFuture<?> timer;
+    }
+}
@@ -0,0 +1,73 @@
+package listeners;
+
+import config.ConfigReader;
+import org.testng.ISuite;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import tests.mobile.BaseMobileTest;
+import tests.web.BaseWebTest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Browsers and devices needed by the classes planned in a suite XML.
+ */
+class SuitePlan {
+
+    private final Map<String, Integer> browserClasses = new TreeMap<>();
+    private final Map<String, Integer> headlessBrowserClasses = new TreeMap<>();
+    private final Map<String, String> devicePlatformVersions = new TreeMap<>();
+
+    SuitePlan(ISuite suite) {
+        this(suite.getXmlSuite());
+    }
+
+    SuitePlan(XmlSuite suite) {
+        for (XmlTest test : suite.getTests()) {
+            Map<String, String> parameters = test.getAllParameters();
+            for (XmlClass xmlClass : test.getClasses()) {
+                Class<?> testClass = xmlClass.getSupportClass();
+                if (testClass != null && BaseWebTest.class.isAssignableFrom(testClass)) {
+                    String browser = parameters.getOrDefault("browser", ConfigReader.getBrowser());
+                    boolean headless = Boolean.parseBoolean(
+                            parameters.getOrDefault("headless", String.valueOf(ConfigReader.isHeadless())));
+                    (headless ? headlessBrowserClasses : browserClasses).merge(browser, 1, Integer::sum);
+                } else if (testClass != null && BaseMobileTest.class.isAssignableFrom(testClass)) {
+                    devicePlatformVersions.putIfAbsent(parameters.getOrDefault("deviceName", ConfigReader.getAndroidDeviceName()),
+                            parameters.getOrDefault("platformVersion", ""));
+                }
+            }
+        }
+    }
+
+    Set<String> getBrowsers() {
+        Set<String> browsers = new TreeSet<>(browserClasses.keySet());
+        browsers.addAll(headlessBrowserClasses.keySet());
+        return browsers;
+    }
+
+    /**
+     * Get number of planned classes per browser.
+     * @param headless browser mode
+     * @return class count by browser
+     */
+    Map<String, Integer> getBrowserClasses(boolean headless) {
+        return headless ? headlessBrowserClasses : browserClasses;
+    }
+
+    Set<String> getDevices() {
+        return devicePlatformVersions.keySet();
+    }
+
+    /**
+     * Get platformVersion parameter of each device.
+     * @return platform version by device, empty if not set in the suite
+     */
+    Map<String, String> getDevicePlatformVersions() {
+        return devicePlatformVersions;
+    }
+}
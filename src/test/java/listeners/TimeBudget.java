@@ -0,0 +1,20 @@
+package listeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Time budget of a test method, overriding the test.time.budget configuration.
+ * Applies to the method or to all methods of the annotated class.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface TimeBudget {
+
+    /**
+     * @return budget in seconds, 0 disables the watchdog for the test
+     */
+    int seconds();
+}
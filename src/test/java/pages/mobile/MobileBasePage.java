@@ -4,10 +4,12 @@ import config.ConfigReader;
 import io.appium.java_client.AppiumBy;
 import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ElementCache;
+import utils.FrameStats;
 
 import java.time.Duration;
 import java.util.List;
@@ -20,11 +22,39 @@ public abstract class MobileBasePage {
 
     protected AndroidDriver driver;
     protected WebDriverWait wait;
+    protected ElementCache elementCache;
 
     public MobileBasePage(AndroidDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getMobileExplicitWait()));
-        PageFactory.initElements(driver, this);
+        if (ConfigReader.isElementCacheEnabled()) {
+            this.elementCache = new ElementCache(driver);
+        }
+    }
+
+    /**
+     * Get search context for page elements: the element cache if enabled, otherwise the driver.
+     * @return search context
+     */
+    protected SearchContext getSearchContext() {
+        return elementCache != null ? elementCache : driver;
+    }
+
+    /**
+     * Get element cache of this page.
+     * @return element cache or null if disabled
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Drop cached element references after the content was replaced.
+     */
+    protected void invalidateElementCache() {
+        if (elementCache != null) {
+            elementCache.invalidate();
+        }
     }
 
     /**
@@ -184,11 +214,21 @@ public abstract class MobileBasePage {
                 ".scrollIntoView(new UiSelector().resourceId(\"" + resourceId + "\"))"));
     }
 
+    /**
+     * Run action and capture frame statistics rendered by the app during it.
+     * @param action gesture to measure
+     * @return frame statistics
+     */
+    protected FrameStats captureFrameStats(Runnable action) {
+        return FrameStats.capture(driver, ConfigReader.getWikipediaAppPackage(), action);
+    }
+
     /**
      * Press back button.
      */
     protected void pressBack() {
         driver.navigate().back();
+        invalidateElementCache();
     }
 
     /**
@@ -4,6 +4,7 @@ import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import utils.FrameStats;
 
 import java.util.List;
 
@@ -14,53 +15,53 @@ public class WikipediaArticleScreen extends MobileBasePage {
 
     // Article title
     @FindBy(id = "org.wikipedia:id/view_page_title_text")
-    private WebElement articleTitle;
+    WebElement articleTitle;
 
     // Article content
     @FindBy(id = "org.wikipedia:id/page_web_view")
-    private WebElement articleWebView;
+    WebElement articleWebView;
 
     @FindBy(id = "org.wikipedia:id/page_contents_container")
-    private WebElement articleContentsContainer;
+    WebElement articleContentsContainer;
 
     // Toolbar elements
     @FindBy(id = "org.wikipedia:id/page_toolbar")
-    private WebElement pageToolbar;
+    WebElement pageToolbar;
 
     @FindBy(id = "org.wikipedia:id/page_toolbar_button_search")
-    private WebElement toolbarSearchButton;
+    WebElement toolbarSearchButton;
 
     @FindBy(id = "org.wikipedia:id/page_toolbar_button_tabs")
-    private WebElement toolbarTabsButton;
+    WebElement toolbarTabsButton;
 
     @FindBy(id = "org.wikipedia:id/page_toolbar_button_show_overflow_menu")
-    private WebElement toolbarOverflowMenu;
+    WebElement toolbarOverflowMenu;
 
     // Save/bookmark button
     @FindBy(id = "org.wikipedia:id/page_save")
-    private WebElement saveButton;
+    WebElement saveButton;
 
     // Table of contents
     @FindBy(id = "org.wikipedia:id/page_toc_button")
-    private WebElement tocButton;
+    WebElement tocButton;
 
     @FindBy(id = "org.wikipedia:id/page_toc_list")
-    private WebElement tocList;
+    WebElement tocList;
 
     @FindBy(id = "org.wikipedia:id/page_toc_item_text")
-    private List<WebElement> tocItems;
+    List<WebElement> tocItems;
 
     // Language button
     @FindBy(id = "org.wikipedia:id/page_language")
-    private WebElement languageButton;
+    WebElement languageButton;
 
     // Back button
     @FindBy(className = "android.widget.ImageButton")
-    private WebElement backButton;
+    WebElement backButton;
 
     // Article header
     @FindBy(id = "org.wikipedia:id/view_page_header_image")
-    private WebElement headerImage;
+    WebElement headerImage;
 
     // Locators
     private final By articleTitleLocator = By.id("org.wikipedia:id/view_page_title_text");
@@ -70,6 +71,7 @@ public class WikipediaArticleScreen extends MobileBasePage {
 
     public WikipediaArticleScreen(AndroidDriver driver) {
         super(driver);
+        WikipediaArticleScreen_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -241,12 +243,22 @@ public class WikipediaArticleScreen extends MobileBasePage {
         scrollDown();
     }
 
+    /**
+     * Scroll article down and measure rendering.
+     * @return frame statistics of the scroll
+     */
+    public FrameStats scrollArticleDownWithFrameStats() {
+        return captureFrameStats(this::scrollArticleDown);
+    }
+
     /**
      * Scroll to specific text in article.
      * @param text text to find
+     * @return element containing the text
      */
-    public void scrollToText(String text) {
-        scrollToText(text);
+    @Override
+    public WebElement scrollToText(String text) {
+        return super.scrollToText(text);
     }
 
     /**
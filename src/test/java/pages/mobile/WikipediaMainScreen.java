@@ -5,6 +5,8 @@ import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import utils.DevicePreparation;
+import utils.FrameStats;
 
 import java.util.List;
 
@@ -15,44 +17,44 @@ public class WikipediaMainScreen extends MobileBasePage {
 
     // Search elements
     @FindBy(id = "org.wikipedia:id/search_container")
-    private WebElement searchContainer;
+    WebElement searchContainer;
 
     @FindBy(id = "org.wikipedia:id/search_src_text")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     // Skip/Continue buttons for onboarding
     @FindBy(id = "org.wikipedia:id/fragment_onboarding_skip_button")
-    private WebElement skipButton;
+    WebElement skipButton;
 
     @FindBy(id = "org.wikipedia:id/fragment_onboarding_forward_button")
-    private WebElement forwardButton;
+    WebElement forwardButton;
 
     // Main page elements
     @FindBy(id = "org.wikipedia:id/main_toolbar_wordmark")
-    private WebElement wikipediaWordmark;
+    WebElement wikipediaWordmark;
 
     @FindBy(id = "org.wikipedia:id/view_announcement_text")
-    private WebElement announcementText;
+    WebElement announcementText;
 
     // Navigation tabs
     @FindBy(id = "org.wikipedia:id/nav_tab_explore")
-    private WebElement exploreTab;
+    WebElement exploreTab;
 
     @FindBy(id = "org.wikipedia:id/nav_tab_reading_lists")
-    private WebElement savedTab;
+    WebElement savedTab;
 
     @FindBy(id = "org.wikipedia:id/nav_tab_search")
-    private WebElement searchTab;
+    WebElement searchTab;
 
     @FindBy(id = "org.wikipedia:id/nav_tab_edits")
-    private WebElement editsTab;
+    WebElement editsTab;
 
     @FindBy(id = "org.wikipedia:id/nav_more_container")
-    private WebElement moreTab;
+    WebElement moreTab;
 
     // Feed items
     @FindBy(id = "org.wikipedia:id/view_card_header_title")
-    private List<WebElement> feedCardTitles;
+    List<WebElement> feedCardTitles;
 
     // Locators
     private final By searchContainerLocator = By.id("org.wikipedia:id/search_container");
@@ -61,6 +63,7 @@ public class WikipediaMainScreen extends MobileBasePage {
 
     public WikipediaMainScreen(AndroidDriver driver) {
         super(driver);
+        WikipediaMainScreen_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -84,7 +87,9 @@ public class WikipediaMainScreen extends MobileBasePage {
      * @return this screen
      */
     public WikipediaMainScreen waitForMainScreen() {
-        skipOnboardingIfPresent();
+        if (!DevicePreparation.isOnboardingComplete(driver)) {
+            skipOnboardingIfPresent();
+        }
         waitForElementVisible(searchContainerLocator);
         return this;
     }
@@ -197,6 +202,14 @@ public class WikipediaMainScreen extends MobileBasePage {
         scrollDown();
     }
 
+    /**
+     * Scroll down in the feed and measure rendering.
+     * @return frame statistics of the scroll
+     */
+    public FrameStats scrollFeedWithFrameStats() {
+        return captureFrameStats(this::scrollFeed);
+    }
+
     /**
      * Get text from first feed card title.
      * @return card title text
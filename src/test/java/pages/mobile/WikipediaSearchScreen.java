@@ -15,35 +15,35 @@ public class WikipediaSearchScreen extends MobileBasePage {
 
     // Search input
     @FindBy(id = "org.wikipedia:id/search_src_text")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     @FindBy(id = "org.wikipedia:id/search_close_btn")
-    private WebElement searchCloseButton;
+    WebElement searchCloseButton;
 
     @FindBy(id = "org.wikipedia:id/search_cab_view")
-    private WebElement searchCabView;
+    WebElement searchCabView;
 
     // Search results
     @FindBy(id = "org.wikipedia:id/page_list_item_title")
-    private List<WebElement> searchResultTitles;
+    List<WebElement> searchResultTitles;
 
     @FindBy(id = "org.wikipedia:id/page_list_item_description")
-    private List<WebElement> searchResultDescriptions;
+    List<WebElement> searchResultDescriptions;
 
     @FindBy(id = "org.wikipedia:id/search_results_list")
-    private WebElement searchResultsList;
+    WebElement searchResultsList;
 
     // Search result container
     @FindBy(id = "org.wikipedia:id/page_list_item_container")
-    private List<WebElement> searchResultContainers;
+    List<WebElement> searchResultContainers;
 
     // No results
     @FindBy(id = "org.wikipedia:id/search_empty_view")
-    private WebElement emptyView;
+    WebElement emptyView;
 
     // Recent searches
     @FindBy(id = "org.wikipedia:id/recent_searches_list")
-    private WebElement recentSearchesList;
+    WebElement recentSearchesList;
 
     // Locators
     private final By searchInputLocator = By.id("org.wikipedia:id/search_src_text");
@@ -52,6 +52,7 @@ public class WikipediaSearchScreen extends MobileBasePage {
 
     public WikipediaSearchScreen(AndroidDriver driver) {
         super(driver);
+        WikipediaSearchScreen_Elements.bind(this, getSearchContext());
     }
 
     /**
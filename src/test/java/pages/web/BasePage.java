@@ -2,12 +2,16 @@ package pages.web;
 
 import config.ConfigReader;
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.AnimationSuppressor;
+import utils.ElementCache;
+import utils.WebVitals;
+import utils.WebVitalsCollector;
 
 import java.time.Duration;
 import java.util.List;
@@ -20,11 +24,39 @@ public abstract class BasePage {
 
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected ElementCache elementCache;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
-        PageFactory.initElements(driver, this);
+        if (ConfigReader.isElementCacheEnabled()) {
+            this.elementCache = new ElementCache(driver);
+        }
+    }
+
+    /**
+     * Get search context for page elements: the element cache if enabled, otherwise the driver.
+     * @return search context
+     */
+    protected SearchContext getSearchContext() {
+        return elementCache != null ? elementCache : driver;
+    }
+
+    /**
+     * Get element cache of this page.
+     * @return element cache or null if disabled
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Drop cached element references after the content was replaced.
+     */
+    protected void invalidateElementCache() {
+        if (elementCache != null) {
+            elementCache.invalidate();
+        }
     }
 
     /**
@@ -78,7 +110,9 @@ public abstract class BasePage {
      * @return true if URL contains text
      */
     protected boolean waitForUrlContains(String urlPart) {
-        return wait.until(ExpectedConditions.urlContains(urlPart));
+        boolean result = wait.until(ExpectedConditions.urlContains(urlPart));
+        AnimationSuppressor.reapply(driver);
+        return result;
     }
 
     /**
@@ -87,7 +121,9 @@ public abstract class BasePage {
      * @return true if title contains text
      */
     protected boolean waitForTitleContains(String titlePart) {
-        return wait.until(ExpectedConditions.titleContains(titlePart));
+        boolean result = wait.until(ExpectedConditions.titleContains(titlePart));
+        AnimationSuppressor.reapply(driver);
+        return result;
     }
 
     /**
@@ -96,6 +132,7 @@ public abstract class BasePage {
      */
     protected void click(WebElement element) {
         waitForElementClickable(element).click();
+        AnimationSuppressor.reapply(driver);
     }
 
     /**
@@ -104,6 +141,7 @@ public abstract class BasePage {
      */
     protected void click(By locator) {
         waitForElementClickable(locator).click();
+        AnimationSuppressor.reapply(driver);
     }
 
     /**
@@ -204,11 +242,21 @@ public abstract class BasePage {
         return driver.getTitle();
     }
 
+    /**
+     * Collect Core Web Vitals observed on this page and earlier same-origin pages of the test.
+     * @return collected Web Vitals
+     */
+    public WebVitals collectWebVitals() {
+        return WebVitalsCollector.collect(driver);
+    }
+
     /**
      * Navigate to URL.
      * @param url URL to navigate to
      */
     public void navigateTo(String url) {
         driver.get(url);
+        AnimationSuppressor.reapply(driver);
+        invalidateElementCache();
     }
 }
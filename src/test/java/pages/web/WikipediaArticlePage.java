@@ -1,6 +1,7 @@
 package pages.web;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -15,61 +16,62 @@ public class WikipediaArticlePage extends BasePage {
 
     // Article title
     @FindBy(id = "firstHeading")
-    private WebElement articleTitle;
+    WebElement articleTitle;
 
     // Article content
     @FindBy(id = "mw-content-text")
-    private WebElement articleContent;
+    WebElement articleContent;
 
     @FindBy(css = "#mw-content-text p")
-    private List<WebElement> articleParagraphs;
+    List<WebElement> articleParagraphs;
 
     // Table of contents
     @FindBy(id = "toc")
-    private WebElement tableOfContents;
+    WebElement tableOfContents;
 
     @FindBy(css = "#toc ul li a")
-    private List<WebElement> tocLinks;
+    List<WebElement> tocLinks;
 
     // Navigation elements
     @FindBy(css = ".mw-logo")
-    private WebElement logo;
+    WebElement logo;
 
     @FindBy(name = "search")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     // Language links
     @FindBy(css = "#p-lang-btn")
-    private WebElement languageButton;
+    WebElement languageButton;
 
     @FindBy(css = ".interlanguage-link a")
-    private List<WebElement> languageLinks;
+    List<WebElement> languageLinks;
 
     // Edit link
     @FindBy(css = "#ca-edit a")
-    private WebElement editLink;
+    WebElement editLink;
 
     // Categories
     @FindBy(id = "mw-normal-catlinks")
-    private WebElement categoriesSection;
+    WebElement categoriesSection;
 
     @FindBy(css = "#mw-normal-catlinks a")
-    private List<WebElement> categoryLinks;
+    List<WebElement> categoryLinks;
 
     // References
     @FindBy(css = ".reference")
-    private List<WebElement> references;
+    List<WebElement> references;
 
     // Infobox
     @FindBy(css = ".infobox")
-    private WebElement infobox;
+    WebElement infobox;
 
     // Locators
     private final By headingSectionLocator = By.cssSelector(".mw-heading");
-    private final By externalLinksLocator = By.cssSelector(".external");
+    private static final String EXTERNAL_LINKS_CSS = ".external";
 
     public WikipediaArticlePage(WebDriver driver) {
         super(driver);
+        WikipediaArticlePage_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -165,6 +167,22 @@ public class WikipediaArticlePage extends BasePage {
         throw new RuntimeException("TOC section not found: " + sectionName);
     }
 
+    /**
+     * Get table of contents links whose anchors do not exist on the page.
+     * Checks both classic (#toc) and Vector 2022 (#vector-toc) tables of contents in one script call.
+     * @return list of broken anchors, empty if all anchors resolve
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getBrokenTocAnchors() {
+        return (List<String>) ((JavascriptExecutor) driver).executeScript(
+                "var broken = [];" +
+                "document.querySelectorAll('#toc a[href^=\"#\"], #vector-toc a[href^=\"#\"]').forEach(function (link) {" +
+                "  var id = decodeURIComponent(link.getAttribute('href').substring(1));" +
+                "  if (id && !document.getElementById(id)) { broken.push('#' + id); }" +
+                "});" +
+                "return broken;");
+    }
+
     /**
      * Check if infobox is present.
      * @return true if infobox exists
@@ -210,6 +228,36 @@ public class WikipediaArticlePage extends BasePage {
         return isElementDisplayed(categoriesSection);
     }
 
+    /**
+     * Get URLs of internal article links in the article body.
+     * Links to other namespaces (File:, Category:, Special: etc.) and fragments are excluded.
+     * @return distinct absolute article URLs
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getInternalArticleLinks() {
+        return (List<String>) ((JavascriptExecutor) driver).executeScript(
+                "var urls = {};" +
+                "document.querySelectorAll('#mw-content-text a[href^=\"/wiki/\"]').forEach(function (link) {" +
+                "  var path = link.getAttribute('href').split('#')[0];" +
+                "  if (path.indexOf(':') < 0) { urls[location.origin + path] = true; }" +
+                "});" +
+                "return Object.keys(urls);");
+    }
+
+    /**
+     * Get URLs of all external links in one script call.
+     * @return distinct http(s) URLs of external links
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getExternalLinks() {
+        return (List<String>) ((JavascriptExecutor) driver).executeScript(
+                "var urls = {};" +
+                "document.querySelectorAll(arguments[0]).forEach(function (link) {" +
+                "  if (/^https?:/.test(link.href)) { urls[link.href] = true; }" +
+                "});" +
+                "return Object.keys(urls);", EXTERNAL_LINKS_CSS);
+    }
+
     /**
      * Get number of section headings.
      * @return count of headings
@@ -1,6 +1,7 @@
 package pages.web;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -14,48 +15,49 @@ public class WikipediaEnglishHomePage extends BasePage {
 
     // Search elements
     @FindBy(name = "search")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     @FindBy(css = "button.cdx-button")
-    private WebElement searchButton;
+    WebElement searchButton;
 
     // Main page elements
     @FindBy(id = "mp-topbanner")
-    private WebElement topBanner;
+    WebElement topBanner;
 
     @FindBy(css = ".mw-logo")
-    private WebElement logo;
+    WebElement logo;
 
     // Navigation elements
     @FindBy(id = "n-mainpage-description")
-    private WebElement mainPageLink;
+    WebElement mainPageLink;
 
     @FindBy(id = "n-contents")
-    private WebElement contentsLink;
+    WebElement contentsLink;
 
     @FindBy(id = "n-currentevents")
-    private WebElement currentEventsLink;
+    WebElement currentEventsLink;
 
     @FindBy(id = "n-randompage")
-    private WebElement randomArticleLink;
+    WebElement randomArticleLink;
 
     // Featured article section
     @FindBy(id = "mp-tfa")
-    private WebElement featuredArticleSection;
+    WebElement featuredArticleSection;
 
     // Did you know section
     @FindBy(id = "mp-dyk")
-    private WebElement didYouKnowSection;
+    WebElement didYouKnowSection;
 
     // In the news section
     @FindBy(id = "mp-itn")
-    private WebElement inTheNewsSection;
+    WebElement inTheNewsSection;
 
     // Locators
     private final By searchResultsLocator = By.cssSelector(".cdx-menu-item");
 
     public WikipediaEnglishHomePage(WebDriver driver) {
         super(driver);
+        WikipediaEnglishHomePage_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -199,9 +201,8 @@ public class WikipediaEnglishHomePage extends BasePage {
      */
     public List<WebElement> getSearchSuggestions() {
         try {
-            Thread.sleep(500);
-            return driver.findElements(searchResultsLocator);
-        } catch (Exception e) {
+            return waitForAllElementsVisible(searchResultsLocator);
+        } catch (TimeoutException e) {
             return List.of();
         }
     }
@@ -1,11 +1,16 @@
 package pages.web;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Page Object for Wikipedia main page (www.wikipedia.org).
@@ -14,34 +19,34 @@ public class WikipediaHomePage extends BasePage {
 
     // Search elements
     @FindBy(id = "searchInput")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     @FindBy(css = "button[type='submit']")
-    private WebElement searchButton;
+    WebElement searchButton;
 
     // Language links
     @FindBy(id = "js-link-box-en")
-    private WebElement englishLink;
+    WebElement englishLink;
 
     @FindBy(id = "js-link-box-ru")
-    private WebElement russianLink;
+    WebElement russianLink;
 
     @FindBy(id = "js-link-box-de")
-    private WebElement germanLink;
+    WebElement germanLink;
 
     @FindBy(id = "js-link-box-fr")
-    private WebElement frenchLink;
+    WebElement frenchLink;
 
     @FindBy(id = "js-link-box-es")
-    private WebElement spanishLink;
+    WebElement spanishLink;
 
     // Logo
     @FindBy(css = ".central-textlogo-wrapper")
-    private WebElement centralLogo;
+    WebElement centralLogo;
 
     // Language selector
     @FindBy(id = "searchLanguage")
-    private WebElement languageSelector;
+    WebElement languageSelector;
 
     // Locators for dynamic elements
     private final By searchSuggestionsLocator = By.cssSelector(".suggestion-link");
@@ -49,6 +54,7 @@ public class WikipediaHomePage extends BasePage {
 
     public WikipediaHomePage(WebDriver driver) {
         super(driver);
+        WikipediaHomePage_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -105,9 +111,8 @@ public class WikipediaHomePage extends BasePage {
      */
     public List<WebElement> getSearchSuggestions() {
         try {
-            Thread.sleep(500); // Wait for suggestions to appear
             return waitForAllElementsVisible(searchSuggestionsLocator);
-        } catch (Exception e) {
+        } catch (TimeoutException e) {
             return List.of();
         }
     }
@@ -203,6 +208,26 @@ public class WikipediaHomePage extends BasePage {
         return links.size();
     }
 
+    /**
+     * Get URLs of all Wikipedia language editions linked from the portal.
+     * Includes featured languages and the full language list, read in one script call.
+     * @return edition main page URLs in portal order
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getLanguageEditionUrls() {
+        List<String> hrefs = (List<String>) ((JavascriptExecutor) driver).executeScript(
+                "return Array.prototype.map.call(" +
+                "document.querySelectorAll('.central-featured-lang a, #js-lang-lists a')," +
+                "function (link) { return link.href; });");
+        Set<String> urls = new LinkedHashSet<>();
+        for (String href : hrefs) {
+            if (href.matches("https://[a-z0-9-]+\\.wikipedia\\.org/?")) {
+                urls.add(href.endsWith("/") ? href : href + "/");
+            }
+        }
+        return new ArrayList<>(urls);
+    }
+
     /**
      * Select search language from dropdown.
      * @param languageCode language code (e.g., "en", "ru")
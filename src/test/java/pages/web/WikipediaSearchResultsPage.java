@@ -1,11 +1,19 @@
 package pages.web;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -15,38 +23,65 @@ public class WikipediaSearchResultsPage extends BasePage {
 
     // Search results elements
     @FindBy(css = ".mw-search-result-heading a")
-    private List<WebElement> searchResultLinks;
+    List<WebElement> searchResultLinks;
 
     @FindBy(css = ".mw-search-result")
-    private List<WebElement> searchResults;
+    List<WebElement> searchResults;
 
     @FindBy(css = ".searchresults")
-    private WebElement searchResultsContainer;
+    WebElement searchResultsContainer;
 
     // Search input on results page
     @FindBy(name = "search")
-    private WebElement searchInput;
+    WebElement searchInput;
 
     @FindBy(css = "button.cdx-button")
-    private WebElement searchButton;
+    WebElement searchButton;
 
     // Pagination
     @FindBy(css = ".mw-nextlink")
-    private WebElement nextPageLink;
+    WebElement nextPageLink;
 
     @FindBy(css = ".mw-prevlink")
-    private WebElement prevPageLink;
+    WebElement prevPageLink;
 
     // No results message
     @FindBy(css = ".mw-search-nonefound")
-    private WebElement noResultsMessage;
+    WebElement noResultsMessage;
 
     // Locators
     private final By searchResultHeadingLocator = By.cssSelector(".mw-search-result-heading");
     private final By searchResultTextLocator = By.cssSelector(".searchresult");
 
+    private static final Pattern OFFSET_PARAM = Pattern.compile("([?&]offset=)(\\d+)");
+    private static final Pattern LIMIT_PARAM = Pattern.compile("[?&]limit=(\\d+)");
+
+    // Starts fetching result pages in parallel; page 0 is the current document
+    private static final String START_HARVEST_SCRIPT =
+            "var extract = function (doc) {" +
+            "  return Array.prototype.map.call(doc.querySelectorAll('.mw-search-result'), function (result) {" +
+            "    var link = result.querySelector('.mw-search-result-heading a');" +
+            "    var snippet = result.querySelector('.searchresult');" +
+            "    return {title: link ? link.textContent.trim() : '', snippet: snippet ? snippet.textContent.trim() : ''};" +
+            "  });" +
+            "};" +
+            "var parser = new DOMParser();" +
+            "window.__harvest = [Promise.resolve(extract(document))].concat(arguments[0].map(function (url) {" +
+            "  return fetch(url, {credentials: 'same-origin'})" +
+            "    .then(function (response) {" +
+            "      if (!response.ok) { return {status: response.status}; }" +
+            "      return response.text().then(function (html) { return extract(parser.parseFromString(html, 'text/html')); });" +
+            "    })" +
+            "    .catch(function (error) { return {error: String(error)}; });" +
+            "}));";
+
+    private static final String AWAIT_HARVEST_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "window.__harvest[arguments[0]].then(done);";
+
     public WikipediaSearchResultsPage(WebDriver driver) {
         super(driver);
+        WikipediaSearchResultsPage_Elements.bind(this, getSearchContext());
     }
 
     /**
@@ -57,6 +92,15 @@ public class WikipediaSearchResultsPage extends BasePage {
         return waitForUrlContains("search") || waitForUrlContains("wiki/");
     }
 
+    /**
+     * Check if the search showed a results list rather than going straight to a matching article.
+     * Uses the URL only, so it does not wait for result elements.
+     * @return true on a search results page
+     */
+    public boolean isResultsList() {
+        return getCurrentUrl().contains("search=");
+    }
+
     /**
      * Check if results are displayed.
      * @return true if results exist
@@ -151,6 +195,85 @@ public class WikipediaSearchResultsPage extends BasePage {
         return new WikipediaSearchResultsPage(driver);
     }
 
+    /**
+     * Harvest titles and snippets of the first result pages without navigating.
+     * Following pages are fetched in parallel by the browser; results are returned
+     * page by page as soon as each page is available. Pages answered with a non-2xx status
+     * (e.g. rate limiting) are skipped. Do not navigate away while iterating.
+     * @param pageCount number of result pages including the current one
+     * @return iterator over search results in page order
+     */
+    public Iterator<SearchResult> harvestResults(int pageCount) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        List<String> urls = getFollowingPageUrls(pageCount - 1);
+        js.executeScript(START_HARVEST_SCRIPT, urls);
+        int totalPages = urls.size() + 1;
+
+        return new Iterator<SearchResult>() {
+            private int nextPage;
+            private Iterator<SearchResult> pageResults = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!pageResults.hasNext() && nextPage < totalPages) {
+                    pageResults = awaitHarvestedPage(js, nextPage++).iterator();
+                }
+                return pageResults.hasNext();
+            }
+
+            @Override
+            public SearchResult next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return pageResults.next();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SearchResult> awaitHarvestedPage(JavascriptExecutor js, int page) {
+        Object result = js.executeAsyncScript(AWAIT_HARVEST_SCRIPT, page);
+        if (result instanceof Map && ((Map<String, Object>) result).containsKey("status")) {
+            // Error or rate limit page has no results to parse
+            return Collections.emptyList();
+        }
+        if (result instanceof Map) {
+            throw new RuntimeException("Failed to fetch search results page " + (page + 1) + ": "
+                    + ((Map<String, Object>) result).get("error"));
+        }
+        List<SearchResult> results = new ArrayList<>();
+        for (Map<String, Object> item : (List<Map<String, Object>>) result) {
+            results.add(new SearchResult(String.valueOf(item.get("title")), String.valueOf(item.get("snippet"))));
+        }
+        return results;
+    }
+
+    /**
+     * Build URLs of following result pages from the next page link offset.
+     * @param count number of following pages
+     * @return page URLs, empty if there is no next page
+     */
+    private List<String> getFollowingPageUrls(int count) {
+        List<String> urls = new ArrayList<>();
+        if (count <= 0 || !hasNextPage()) {
+            return urls;
+        }
+        String nextUrl = nextPageLink.getAttribute("href");
+        Matcher offset = OFFSET_PARAM.matcher(nextUrl);
+        if (!offset.find()) {
+            urls.add(nextUrl);
+            return urls;
+        }
+        Matcher limit = LIMIT_PARAM.matcher(nextUrl);
+        int pageSize = limit.find() ? Integer.parseInt(limit.group(1)) : Integer.parseInt(offset.group(2));
+        int firstOffset = Integer.parseInt(offset.group(2));
+        for (int i = 0; i < count; i++) {
+            urls.add(offset.replaceFirst("$1" + (firstOffset + i * pageSize)));
+        }
+        return urls;
+    }
+
     /**
      * Check if previous page link is available.
      * @return true if previous page exists
@@ -204,4 +327,31 @@ public class WikipediaSearchResultsPage extends BasePage {
         }
         return "";
     }
+
+    /**
+     * Search result title and snippet.
+     */
+    public static class SearchResult {
+
+        private final String title;
+        private final String snippet;
+
+        public SearchResult(String title, String snippet) {
+            this.title = title;
+            this.snippet = snippet;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getSnippet() {
+            return snippet;
+        }
+
+        @Override
+        public String toString() {
+            return title;
+        }
+    }
 }
@@ -0,0 +1,154 @@
+package tests.listeners;
+
+import listeners.AbortableSession;
+import listeners.SessionWatchdogListener;
+import listeners.TimeBudget;
+import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.ITestClass;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+import org.testng.internal.ConstructorOrMethod;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the hung-session watchdog.
+ * Drives the listener with a fake session and fake TestNG results, so no browser or device is needed.
+ */
+public class SessionWatchdogListenerTest {
+
+    @Test(description = "Verify test over its time budget is aborted and failed with a timeout")
+    public void testOverBudgetTestIsAborted() throws Exception {
+        FakeSession session = new FakeSession();
+        FakeResult result = new FakeResult(session);
+        SessionWatchdogListener listener = new SessionWatchdogListener();
+
+        long start = System.currentTimeMillis();
+        listener.beforeInvocation(invokedMethod("hangsPastBudget"), result.proxy);
+        boolean interrupted = false;
+        try {
+            Thread.sleep(10_000);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        long millis = System.currentTimeMillis() - start;
+        listener.afterInvocation(invokedMethod("hangsPastBudget"), result.proxy);
+
+        Assert.assertTrue(interrupted, "Watchdog should interrupt the hung test thread");
+        Assert.assertTrue(millis < 5000, "Watchdog should fire after the 1 s budget, took " + millis + " ms");
+        Assert.assertEquals(result.status, ITestResult.FAILURE, "Over-budget test should fail");
+        Assert.assertTrue(result.throwable instanceof TimeoutException,
+                "Over-budget test should fail with a timeout: " + result.throwable);
+        Assert.assertEquals(session.aborts.get(), 1, "Session should be aborted once");
+        Assert.assertEquals(session.restarts.get(), 1, "Session should be restarted once");
+        Assert.assertFalse(Thread.currentThread().isInterrupted(), "Interrupt should be cleared after the abort");
+    }
+
+    @Test(description = "Verify test within its time budget is not aborted")
+    public void testInBudgetTestIsNotAborted() throws Exception {
+        FakeSession session = new FakeSession();
+        FakeResult result = new FakeResult(session);
+        SessionWatchdogListener listener = new SessionWatchdogListener();
+
+        listener.beforeInvocation(invokedMethod("finishesWithinBudget"), result.proxy);
+        Thread.sleep(100);
+        listener.afterInvocation(invokedMethod("finishesWithinBudget"), result.proxy);
+        // Past the 1 s budget of the other method: a cancelled timer must not fire
+        Thread.sleep(1500);
+
+        Assert.assertEquals(result.status, ITestResult.SUCCESS, "In-budget test should keep its status");
+        Assert.assertNull(result.throwable, "In-budget test should not get a timeout");
+        Assert.assertEquals(session.aborts.get(), 0, "Session should not be aborted");
+        Assert.assertEquals(session.restarts.get(), 0, "Session should not be restarted");
+    }
+
+    private static IInvokedMethod invokedMethod(String name) throws NoSuchMethodException {
+        Method method = FakeSession.class.getMethod(name);
+        ITestNGMethod testMethod = fake(ITestNGMethod.class, Map.of("getConstructorOrMethod", new ConstructorOrMethod(method)));
+        return fake(IInvokedMethod.class, Map.of("isTestMethod", true, "getTestMethod", testMethod));
+    }
+
+    private static <T> T fake(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answers.get(method.getName())));
+    }
+
+    /**
+     * Test class with a fake session that counts aborts and restarts.
+     */
+    public static class FakeSession implements AbortableSession {
+
+        private final AtomicInteger aborts = new AtomicInteger();
+        private final AtomicInteger restarts = new AtomicInteger();
+
+        @Override
+        public void abortSession() {
+            aborts.incrementAndGet();
+        }
+
+        @Override
+        public void restartSession() {
+            restarts.incrementAndGet();
+        }
+
+        @TimeBudget(seconds = 1)
+        public void hangsPastBudget() {
+        }
+
+        @TimeBudget(seconds = 5)
+        public void finishesWithinBudget() {
+        }
+    }
+
+    /**
+     * Test result of a {@link FakeSession} invocation, recording status, throwable and attributes.
+     */
+    private static class FakeResult {
+
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final ITestResult proxy;
+        private volatile int status = ITestResult.SUCCESS;
+        private volatile Throwable throwable;
+
+        FakeResult(FakeSession session) {
+            ITestClass testClass = fake(ITestClass.class, Map.of("getRealClass", FakeSession.class));
+            proxy = (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(),
+                    new Class<?>[]{ITestResult.class}, (self, method, args) -> {
+                        switch (method.getName()) {
+                            case "getInstance":
+                                return session;
+                            case "getTestClass":
+                                return testClass;
+                            case "setAttribute":
+                                synchronized (attributes) {
+                                    attributes.put((String) args[0], args[1]);
+                                }
+                                return null;
+                            case "getAttribute":
+                                synchronized (attributes) {
+                                    return attributes.get((String) args[0]);
+                                }
+                            case "setStatus":
+                                status = (int) args[0];
+                                return null;
+                            case "setThrowable":
+                                throwable = (Throwable) args[0];
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(self);
+                            case "equals":
+                                return self == args[0];
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
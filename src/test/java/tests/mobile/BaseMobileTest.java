@@ -3,43 +3,186 @@ package tests.mobile;
 import config.ConfigReader;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
+import listeners.AbortableSession;
+import listeners.EnvironmentCheckListener;
+import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
+import pages.mobile.WikipediaMainScreen;
+import utils.AdbShell;
+import utils.AppiumServerManager;
+import utils.AppStartupBenchmark;
+import utils.DevicePreparation;
+import utils.ElementCache;
+import utils.FrameStats;
+import utils.LogcatBuffer;
+import utils.SessionPrewarmer;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Base test class for mobile tests.
  * Handles Appium driver setup and teardown.
  */
-public class BaseMobileTest {
+public class BaseMobileTest implements AbortableSession {
+
+    private static final long QUIT_TIMEOUT_SECONDS = 30;
+
+    private static final ExecutorService quitExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "session-quit");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     protected AndroidDriver driver;
+    protected LogcatBuffer logcatBuffer;
+    private String deviceName;
+    private String platformVersion;
 
     @BeforeClass
     @Parameters({"deviceName", "platformVersion"})
     public void setUp(@Optional("") String deviceName, @Optional("") String platformVersion) {
+        String device = deviceName.isEmpty() ? ConfigReader.getAndroidDeviceName() : deviceName;
+        for (String component : new String[] {"appium", "device:" + device}) {
+            String unavailableReason = EnvironmentCheckListener.getUnavailableReason(component);
+            if (unavailableReason != null) {
+                throw new SkipException(unavailableReason);
+            }
+        }
+        this.deviceName = deviceName;
+        this.platformVersion = platformVersion;
+        startSession();
+    }
+
+    private void startSession() {
+        String device = deviceName.isEmpty() ? ConfigReader.getAndroidDeviceName() : deviceName;
+        if (!ConfigReader.isDevicePreparationEnabled()) {
+            createDriver(false);
+            return;
+        }
+        if (!DevicePreparation.isPrepared(device)) {
+            synchronized (DevicePreparation.lockFor(device)) {
+                if (!DevicePreparation.isPrepared(device)) {
+                    createDriver(false);
+                    DevicePreparation.prepare(driver, device, ConfigReader.getWikipediaAppPackage(),
+                            () -> new WikipediaMainScreen(driver).skipOnboardingIfPresent());
+                    DevicePreparation.markPrepared(device);
+                    DevicePreparation.markPreparedSession(driver);
+                    return;
+                }
+            }
+        }
+        createDriver(true);
+        DevicePreparation.restartApp(driver, ConfigReader.getWikipediaAppPackage());
+        DevicePreparation.markPreparedSession(driver);
+    }
+
+    /**
+     * Create Appium session, taking the pre-warmed one for the first session of a device.
+     * @param keepAppState keep app data of the prepared device instead of clearing it
+     */
+    private void createDriver(boolean keepAppState) {
+        String device = deviceName.isEmpty() ? ConfigReader.getAndroidDeviceName() : deviceName;
+        AndroidDriver prewarmed = keepAppState ? null : (AndroidDriver) SessionPrewarmer.take("device:" + device);
+        driver = prewarmed != null ? prewarmed : openSession(deviceName, platformVersion, keepAppState);
+        try {
+            startLogcatBuffer(AppiumServerManager.getServerUrl(device));
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("Invalid Appium server URL: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Open configured Appium session.
+     * @param deviceName device name parameter
+     * @param platformVersion platform version parameter
+     * @param keepAppState keep app data of the prepared device instead of clearing it
+     * @return AndroidDriver instance
+     */
+    public static AndroidDriver openSession(String deviceName, String platformVersion, boolean keepAppState) {
+        return openSession(deviceName, platformVersion, keepAppState, null);
+    }
+
+    /**
+     * Open configured Appium session.
+     * Also used to pre-warm sessions before the test class starts.
+     * @param deviceName device name parameter
+     * @param platformVersion platform version parameter
+     * @param keepAppState keep app data of the prepared device instead of clearing it
+     * @param newCommandTimeout idle time after which Appium deletes the session, null for the server default
+     * @return AndroidDriver instance
+     */
+    public static AndroidDriver openSession(String deviceName, String platformVersion, boolean keepAppState,
+                                            Duration newCommandTimeout) {
         try {
             UiAutomator2Options options = createOptions(deviceName, platformVersion);
-            URL appiumServerUrl = new URL(ConfigReader.getAppiumServerUrl());
-            driver = new AndroidDriver(appiumServerUrl, options);
-            configureDriver();
+            options.setNoReset(keepAppState);
+            if (newCommandTimeout != null) {
+                options.setNewCommandTimeout(newCommandTimeout);
+            }
+            if (keepAppState) {
+                // UiAutomator2 server and device settings were installed by the preparing session
+                options.setSkipServerInstallation(true);
+                options.setSkipDeviceInitialization(true);
+            }
+            String device = deviceName.isEmpty() ? ConfigReader.getAndroidDeviceName() : deviceName;
+            AndroidDriver session = new AndroidDriver(AppiumServerManager.getServerUrl(device), options);
+            configureDriver(session);
+            return session;
         } catch (MalformedURLException e) {
             throw new RuntimeException("Invalid Appium server URL: " + e.getMessage());
         }
     }
 
+    /**
+     * Stream app logcat into the in-memory buffer if enabled in configuration.
+     * @param appiumServerUrl Appium server URL
+     */
+    private void startLogcatBuffer(URL appiumServerUrl) {
+        if (!ConfigReader.isLogcatBufferEnabled()) {
+            return;
+        }
+        if (logcatBuffer == null) {
+            logcatBuffer = new LogcatBuffer(ConfigReader.getWikipediaAppPackage(), ConfigReader.getLogcatBufferLines());
+        }
+        try {
+            logcatBuffer.attach(driver, appiumServerUrl);
+        } catch (Exception e) {
+            // Logcat broadcast not supported by the Appium server
+            logcatBuffer = null;
+        }
+    }
+
+    /**
+     * Discard logcat lines of the previous test.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void clearLogcatBuffer() {
+        if (logcatBuffer != null) {
+            logcatBuffer.clear();
+        }
+    }
+
     /**
      * Create UiAutomator2Options for driver initialization.
      * @param deviceName device name parameter
      * @param platformVersion platform version parameter
      * @return configured options
      */
-    private UiAutomator2Options createOptions(String deviceName, String platformVersion) {
+    private static UiAutomator2Options createOptions(String deviceName, String platformVersion) {
         UiAutomator2Options options = new UiAutomator2Options();
 
         // Platform settings
@@ -76,15 +219,65 @@ public class BaseMobileTest {
 
     /**
      * Configure driver timeouts.
+     * @param driver AndroidDriver instance
      */
-    private void configureDriver() {
+    private static void configureDriver(AndroidDriver driver) {
         driver.manage().timeouts().implicitlyWait(
                 Duration.ofSeconds(ConfigReader.getMobileImplicitWait())
         );
     }
 
+    /**
+     * Delete a hung session on the Appium server.
+     * Appium stops the UiAutomator2 server, so the blocked command returns with an error.
+     */
+    @Override
+    public void abortSession() {
+        quitWithTimeout(driver);
+    }
+
+    /**
+     * Replace the aborted session with a new Appium session.
+     */
+    @Override
+    public void restartSession() {
+        if (logcatBuffer != null) {
+            logcatBuffer.detach();
+        }
+        AndroidDriver abortedDriver = driver;
+        driver = null;
+        quitWithTimeout(abortedDriver);
+        startSession();
+    }
+
+    /**
+     * Quit session on a dedicated thread, waiting at most {@link #QUIT_TIMEOUT_SECONDS}.
+     * A quit that hangs does not block the caller or shared pools.
+     * @param session session to quit, may be null
+     */
+    private static void quitWithTimeout(AndroidDriver session) {
+        if (session == null) {
+            return;
+        }
+        Future<?> quit = quitExecutor.submit(session::quit);
+        try {
+            quit.get(QUIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Session already deleted or server not responding
+            quit.cancel(true);
+        }
+    }
+
     @AfterClass
     public void tearDown() {
+        if (ConfigReader.isElementCacheEnabled()) {
+            Reporter.log("Element cache, all classes so far: " + ElementCache.totals());
+        }
+        if (logcatBuffer != null) {
+            logcatBuffer.detach();
+        }
         if (driver != null) {
             driver.quit();
         }
@@ -94,10 +287,18 @@ public class BaseMobileTest {
      * Get the AndroidDriver instance.
      * @return AndroidDriver
      */
-    protected AndroidDriver getDriver() {
+    public AndroidDriver getDriver() {
         return driver;
     }
 
+    /**
+     * Get the app logcat buffer.
+     * @return logcat buffer or null if disabled or not supported
+     */
+    public LogcatBuffer getLogcatBuffer() {
+        return logcatBuffer;
+    }
+
     /**
      * Restart the app.
      */
@@ -119,4 +320,54 @@ public class BaseMobileTest {
     protected void launchApp() {
         driver.activateApp(ConfigReader.getWikipediaAppPackage());
     }
+
+    /**
+     * Create startup benchmark for the Wikipedia app.
+     * The app is considered started once the main screen is ready.
+     * @return startup benchmark
+     */
+    protected AppStartupBenchmark startupBenchmark() {
+        return new AppStartupBenchmark(driver, ConfigReader.getWikipediaAppPackage(),
+                () -> new WikipediaMainScreen(driver).waitForMainScreen());
+    }
+
+    /**
+     * Append startup benchmark result to the results CSV, labelled with the installed app version.
+     * @param result startup benchmark result
+     */
+    protected void recordStartupResult(AppStartupBenchmark.Result result) {
+        result.appendTo(Paths.get(ConfigReader.getBenchmarkResultsDir(), "app-startup.csv"), getAppVersion());
+    }
+
+    /**
+     * Log frame statistics of a gesture and append them to the results CSV.
+     * @param frameStats captured frame statistics
+     * @param label gesture label (e.g. "article-scroll")
+     */
+    protected void recordFrameStats(FrameStats frameStats, String label) {
+        Reporter.log("Frame stats [" + label + "]: " + frameStats);
+        if (frameStats.getTotalFrames() > 0) {
+            frameStats.appendTo(Paths.get(ConfigReader.getBenchmarkResultsDir(), "frame-stats.csv"), label);
+        }
+    }
+
+    /**
+     * Get installed Wikipedia app version.
+     * Requires Appium server started with relaxed security for shell access.
+     * @return version name or "unknown"
+     */
+    protected String getAppVersion() {
+        try {
+            String output = AdbShell.run(driver, "dumpsys", "package", ConfigReader.getWikipediaAppPackage());
+            for (String line : output.split("\n")) {
+                String trimmed = line.trim();
+                if (trimmed.startsWith("versionName=")) {
+                    return trimmed.substring("versionName=".length());
+                }
+            }
+        } catch (Exception e) {
+            // Shell access not allowed
+        }
+        return "unknown";
+    }
 }
@@ -0,0 +1,38 @@
+package tests.mobile;
+
+import listeners.TimeBudget;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import utils.AppStartupBenchmark;
+
+/**
+ * Cold and warm start benchmark of the Wikipedia app.
+ * Results are appended to the startup CSV labelled with the installed app version.
+ */
+public class WikipediaAppStartupBenchmarkTest extends BaseMobileTest {
+
+    // Each cold start terminates the app and waits for the main screen
+    @TimeBudget(seconds = 900)
+    @Test(priority = 1, description = "Benchmark cold start of the app up to the main screen")
+    @Parameters({"startupIterations"})
+    public void benchmarkColdStart(@Optional("10") int iterations) {
+        recordAndCheck(startupBenchmark().measureColdStart(iterations), iterations);
+    }
+
+    @TimeBudget(seconds = 600)
+    @Test(priority = 2, description = "Benchmark warm start of the app from background up to the main screen")
+    @Parameters({"startupIterations"})
+    public void benchmarkWarmStart(@Optional("10") int iterations) {
+        recordAndCheck(startupBenchmark().measureWarmStart(iterations), iterations);
+    }
+
+    private void recordAndCheck(AppStartupBenchmark.Result result, int iterations) {
+        Reporter.log(result.toString());
+        Reporter.getCurrentTestResult().setAttribute("startup", result);
+        recordStartupResult(result);
+        Assert.assertEquals(result.getStats().getCount(), iterations, "All starts should be measured");
+    }
+}
@@ -0,0 +1,56 @@
+package tests.mobile;
+
+import config.ConfigReader;
+import listeners.TimeBudget;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import pages.mobile.WikipediaArticleScreen;
+import pages.mobile.WikipediaMainScreen;
+import utils.JourneyBenchmark;
+
+import java.nio.file.Paths;
+
+/**
+ * Latency benchmark of key mobile user journeys.
+ * Iterations, warm-up and query are configured through TestNG XML parameters.
+ */
+public class WikipediaMobileJourneyBenchmarkTest extends BaseMobileTest {
+
+    // Warm-up and measured iterations of the full journey on a device
+    @TimeBudget(seconds = 1800)
+    @Test(description = "Benchmark search -> first result -> article title journey")
+    @Parameters({"journeyWarmup", "journeyIterations", "journeyQuery"})
+    public void benchmarkSearchToArticle(@Optional("2") int warmup,
+                                         @Optional("10") int iterations,
+                                         @Optional("Java programming") String query) {
+        WikipediaMainScreen mainScreen = new WikipediaMainScreen(driver);
+
+        JourneyBenchmark.Result result = new JourneyBenchmark("mobile-search-to-article", warmup, iterations).run(
+                () -> returnToMainScreen(mainScreen),
+                () -> {
+                    WikipediaArticleScreen articleScreen = mainScreen.clickSearch()
+                            .search(query)
+                            .clickFirstResult();
+                    Assert.assertFalse(articleScreen.getArticleTitle().isEmpty(), "Article should have a title");
+                });
+
+        Reporter.log(result.toString());
+        Reporter.getCurrentTestResult().setAttribute("journey", result);
+        result.appendTo(Paths.get(ConfigReader.getBenchmarkResultsDir(), "journeys.csv"));
+        Assert.assertEquals(result.getStats().getCount(), iterations, "All iterations should be measured");
+    }
+
+    /**
+     * Navigate back until the main screen is shown.
+     * @param mainScreen main screen
+     */
+    private void returnToMainScreen(WikipediaMainScreen mainScreen) {
+        for (int i = 0; i < 3 && !mainScreen.isMainScreenLoaded(); i++) {
+            mainScreen.goBack();
+        }
+        mainScreen.waitForMainScreen();
+    }
+}
@@ -133,7 +133,7 @@ public class WikipediaMobileTest extends BaseMobileTest {
                 "Article should be loaded before scrolling");
 
         // Scroll down multiple times
-        articleScreen.scrollArticleDown();
+        recordFrameStats(articleScreen.scrollArticleDownWithFrameStats(), "article-scroll");
         articleScreen.scrollArticleDown();
 
         Assert.assertTrue(articleScreen.isArticleLoaded(),
@@ -0,0 +1,131 @@
+package tests.processor;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import processor.PageObjectProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the page object annotation processor.
+ * Compiles small page classes in memory with the processor and checks the reported errors,
+ * so invalid locators are known to fail the build instead of failing at runtime.
+ */
+public class PageObjectProcessorTest {
+
+    private Path generatedDir;
+
+    @BeforeClass
+    public void createGeneratedDir() throws IOException {
+        generatedDir = Files.createTempDirectory("page-object-processor");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteGeneratedDir() throws IOException {
+        if (generatedDir != null) {
+            try (Stream<Path> files = Files.walk(generatedDir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test(description = "Verify valid page generates a binder without errors")
+    public void testValidPageGeneratesBinder() throws IOException {
+        List<String> errors = compile("ValidPage",
+                "@FindBy(id = \"searchInput\") WebElement searchInput;\n"
+                        + "@FindBy(xpath = \"//a[@class='mw-link']\") List<WebElement> links;");
+
+        Assert.assertTrue(errors.isEmpty(), "Valid page should compile: " + errors);
+        Assert.assertTrue(Files.exists(generatedDir.resolve("pages/ValidPage_Elements.java")),
+                "Binder should be generated for valid page");
+    }
+
+    @Test(description = "Verify invalid XPath is reported as compilation error")
+    public void testInvalidXpathIsRejected() throws IOException {
+        List<String> errors = compile("InvalidXpathPage", "@FindBy(xpath = \"//div[@id='content'\") WebElement content;");
+
+        assertSingleError(errors, "Invalid @FindBy xpath");
+    }
+
+    @Test(description = "Verify unbalanced CSS selector is reported as compilation error")
+    public void testInvalidCssIsRejected() throws IOException {
+        List<String> errors = compile("InvalidCssPage", "@FindBy(css = \"div[data-id='x'\") WebElement content;");
+
+        assertSingleError(errors, "Invalid @FindBy css");
+    }
+
+    @Test(description = "Verify unsupported field type is reported as compilation error")
+    public void testUnsupportedFieldTypeIsRejected() throws IOException {
+        List<String> errors = compile("StringFieldPage", "@FindBy(id = \"title\") String title;");
+
+        assertSingleError(errors, "must be WebElement or List<WebElement>");
+    }
+
+    @Test(description = "Verify private field is reported as compilation error")
+    public void testPrivateFieldIsRejected() throws IOException {
+        List<String> errors = compile("PrivateFieldPage", "@FindBy(id = \"title\") private WebElement title;");
+
+        assertSingleError(errors, "must be a package-private or protected instance field");
+    }
+
+    private static void assertSingleError(List<String> errors, String expected) {
+        Assert.assertEquals(errors.size(), 1, "Exactly one error expected: " + errors);
+        Assert.assertTrue(errors.get(0).contains(expected), "Unexpected error: " + errors.get(0));
+    }
+
+    /**
+     * Run the processor on a page class in package {@code pages}.
+     * @param pageName simple class name
+     * @param fields field declarations
+     * @return error messages reported by the compilation
+     */
+    private List<String> compile(String pageName, String fields) throws IOException {
+        String source = "package pages;\n\n"
+                + "import org.openqa.selenium.WebElement;\n"
+                + "import org.openqa.selenium.support.FindBy;\n"
+                + "import java.util.List;\n\n"
+                + "public class " + pageName + " {\n" + fields + "\n}\n";
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///pages/" + pageName + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT,
+                StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-proc:only", "-s", generatedDir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(file));
+            task.setProcessors(List.of(new PageObjectProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+package tests.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import utils.LatencyStats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for latency percentiles and their confidence intervals on a known sample.
+ */
+public class LatencyStatsTest {
+
+    private static final double Z_95 = 1.96;
+
+    @Test(description = "Verify nearest-rank percentiles of samples 1..100")
+    public void testPercentiles() {
+        LatencyStats stats = new LatencyStats(samples(100));
+
+        Assert.assertEquals(stats.getP50(), 50.0);
+        Assert.assertEquals(stats.getP90(), 90.0);
+        Assert.assertEquals(stats.getP99(), 99.0);
+        Assert.assertEquals(stats.percentile(0), 1.0, "Rank is clamped to the first sample");
+    }
+
+    @Test(description = "Verify 95% confidence interval of the median uses ranks 40 and 60")
+    public void testMedianConfidenceInterval() {
+        // n = 100, q = 0.5: spread = 1.96 * 5 = 9.8, ranks floor(40.2) and ceil(59.8)
+        double[] interval = new LatencyStats(samples(100)).percentileConfidenceInterval(50, Z_95);
+
+        Assert.assertEquals(interval[0], 40.0, "Lower bound");
+        Assert.assertEquals(interval[1], 60.0, "Upper bound");
+    }
+
+    @Test(description = "Verify 95% confidence interval of p90 uses ranks 84 and 96")
+    public void testP90ConfidenceInterval() {
+        // n = 100, q = 0.9: spread = 1.96 * 3 = 5.88, ranks floor(84.12) and ceil(95.88)
+        double[] interval = new LatencyStats(samples(100)).percentileConfidenceInterval(90, Z_95);
+
+        Assert.assertEquals(interval[0], 84.0, "Lower bound");
+        Assert.assertEquals(interval[1], 96.0, "Upper bound");
+    }
+
+    @Test(description = "Verify confidence interval ranks are clamped to the sample")
+    public void testConfidenceIntervalIsClamped() {
+        double[] interval = new LatencyStats(samples(10)).percentileConfidenceInterval(99, Z_95);
+
+        Assert.assertEquals(interval[1], 10.0, "Upper bound is the largest sample");
+        Assert.assertEquals(new LatencyStats(List.of()).percentileConfidenceInterval(50, Z_95), new double[] {0, 0},
+                "No samples give an empty interval");
+    }
+
+    private static List<Double> samples(int count) {
+        List<Double> samples = new ArrayList<>();
+        // Unsorted input, the stats sort it
+        for (int i = count; i >= 1; i--) {
+            samples.add((double) i);
+        }
+        return samples;
+    }
+}
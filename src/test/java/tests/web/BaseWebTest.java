@@ -1,103 +1,228 @@
 package tests.web;
 
 import config.ConfigReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import listeners.AbortableSession;
+import listeners.EnvironmentCheckListener;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
+import utils.AnimationSuppressor;
+import utils.BrowserLogBuffer;
+import utils.BrowserStateReset;
+import utils.ElementCache;
+import utils.NetworkCapture;
+import utils.SessionPrewarmer;
+import utils.WebDriverFactory;
+import utils.WebVitals;
+import utils.WebVitalsCollector;
 
-import java.time.Duration;
+import java.lang.reflect.Method;
+import java.nio.file.Paths;
 
 /**
  * Base test class for web tests.
  * Handles WebDriver setup and teardown.
  */
-public class BaseWebTest {
+public class BaseWebTest implements AbortableSession {
 
     protected WebDriver driver;
+    protected NetworkCapture networkCapture;
+    protected BrowserLogBuffer browserLog;
+    private String browser;
+    private boolean headless;
 
     @BeforeClass
     @Parameters({"browser"})
     public void setUp(@Optional("") String browserParam) {
-        String browser = browserParam.isEmpty() ? ConfigReader.getBrowser() : browserParam;
-        boolean headless = ConfigReader.isHeadless();
+        browser = browserParam.isEmpty() ? ConfigReader.getBrowser() : browserParam;
+        headless = ConfigReader.isHeadless();
+        String unavailableReason = EnvironmentCheckListener.getUnavailableReason("browser:" + browser);
+        if (unavailableReason != null) {
+            throw new SkipException(unavailableReason);
+        }
+        startSession();
+    }
 
-        driver = initializeDriver(browser, headless);
-        configureDriver();
+    private void startSession() {
+        driver = SessionPrewarmer.take(SessionPrewarmer.browserKey(browser, headless));
+        if (driver == null) {
+            driver = WebDriverFactory.create(browser, headless);
+        }
+        if (ConfigReader.isWebVitalsEnabled()) {
+            WebVitalsCollector.install(driver);
+        }
+        if (ConfigReader.isWebAnimationsDisabled() && !AnimationSuppressor.install(driver)) {
+            Reporter.log("Animation suppression: no DevTools in " + browser + ", styles are injected after navigation");
+        }
+        if (ConfigReader.isBrowserLogEnabled() && BrowserLogBuffer.isSupported(driver)) {
+            if (browserLog == null) {
+                browserLog = new BrowserLogBuffer(ConfigReader.getBrowserLogLines());
+            }
+            try {
+                browserLog.attach(driver);
+            } catch (Exception e) {
+                // DevTools Runtime/Log domains not available in this browser
+                browserLog = null;
+            }
+        }
     }
 
     /**
-     * Initialize WebDriver based on browser configuration.
-     * @param browser browser name
-     * @param headless run in headless mode
-     * @return WebDriver instance
+     * Kill driver and browser processes of a hung session.
      */
-    private WebDriver initializeDriver(String browser, boolean headless) {
-        switch (browser.toLowerCase()) {
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                if (headless) {
-                    firefoxOptions.addArguments("--headless");
-                }
-                return new FirefoxDriver(firefoxOptions);
-
-            case "edge":
-                WebDriverManager.edgedriver().setup();
-                EdgeOptions edgeOptions = new EdgeOptions();
-                if (headless) {
-                    edgeOptions.addArguments("--headless");
-                }
-                return new EdgeDriver(edgeOptions);
-
-            case "chrome":
-            default:
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                if (headless) {
-                    chromeOptions.addArguments("--headless");
-                }
-                chromeOptions.addArguments("--disable-gpu");
-                chromeOptions.addArguments("--window-size=1920,1080");
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                return new ChromeDriver(chromeOptions);
+    @Override
+    public void abortSession() {
+        if (driver != null) {
+            WebDriverFactory.kill(driver);
         }
     }
 
     /**
-     * Configure WebDriver timeouts and settings.
+     * Replace the aborted session with a new browser.
      */
-    private void configureDriver() {
-        driver.manage().timeouts().implicitlyWait(
-                Duration.ofSeconds(ConfigReader.getImplicitWait())
-        );
-        driver.manage().timeouts().pageLoadTimeout(
-                Duration.ofSeconds(ConfigReader.getPageLoadTimeout())
-        );
-        driver.manage().window().maximize();
+    @Override
+    public void restartSession() {
+        if (networkCapture != null && networkCapture.isRecording()) {
+            try {
+                networkCapture.stop();
+            } catch (Exception e) {
+                // DevTools connection closed with the browser
+            }
+        }
+        networkCapture = null;
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // Browser already killed
+        }
+        startSession();
+    }
+
+    /**
+     * Clear cookies, storage, cache and service workers left by the previous test.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void isolateBrowserState() {
+        if (ConfigReader.isStateIsolationEnabled() && driver != null) {
+            boolean devTools = BrowserStateReset.clear(driver, ConfigReader.getStateIsolationOrigins());
+            Reporter.log("Browser state cleared " + (devTools ? "through DevTools" : "with WebDriver cookies and page storage"));
+        }
+    }
+
+    /**
+     * Start per-test network capture if enabled in configuration.
+     * @param method test method about to run
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void startNetworkCapture(Method method) {
+        if (!ConfigReader.isNetworkCaptureEnabled() || !NetworkCapture.isSupported(driver)) {
+            return;
+        }
+        if (networkCapture == null) {
+            networkCapture = NetworkCapture.attach(driver);
+        }
+        String fileName = method.getName() + "_" + System.currentTimeMillis() + ".har.gz";
+        networkCapture.start(Paths.get(ConfigReader.getNetworkCaptureDir(), fileName));
+    }
+
+    /**
+     * Stop network capture and attach summary to the test result.
+     * @param result finished test result
+     */
+    @AfterMethod(alwaysRun = true)
+    public void stopNetworkCapture(ITestResult result) {
+        if (networkCapture == null || !networkCapture.isRecording()) {
+            return;
+        }
+        NetworkCapture.Summary summary = networkCapture.stop();
+        result.setAttribute("network.summary", summary);
+        Reporter.log("Network: " + summary);
+    }
+
+    /**
+     * Discard Web Vitals left over from the previous test.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void resetWebVitals() {
+        if (ConfigReader.isWebVitalsEnabled() && driver != null) {
+            WebVitalsCollector.reset(driver);
+        }
+    }
+
+    /**
+     * Collect Web Vitals of the finished test and attach them to the test result.
+     * @param result finished test result
+     */
+    @AfterMethod(alwaysRun = true)
+    public void recordWebVitals(ITestResult result) {
+        if (!ConfigReader.isWebVitalsEnabled() || driver == null) {
+            return;
+        }
+        try {
+            WebVitals vitals = WebVitalsCollector.collect(driver);
+            result.setAttribute("web.vitals", vitals);
+            Reporter.log("Web Vitals: " + vitals);
+        } catch (Exception e) {
+            // Page does not allow script execution (e.g. browser error page)
+        }
+    }
+
+    /**
+     * Discard browser log entries of the previous test.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void resetBrowserLog() {
+        if (browserLog != null) {
+            browserLog.reset();
+        }
+    }
+
+    /**
+     * Attach browser log severity counters of the finished test to the test result.
+     * @param result finished test result
+     */
+    @AfterMethod(alwaysRun = true)
+    public void recordBrowserLog(ITestResult result) {
+        if (browserLog == null) {
+            return;
+        }
+        result.setAttribute("browser.log.counts", browserLog.getCounts());
+        if (browserLog.getErrorCount() > 0) {
+            Reporter.log("JS errors during " + result.getMethod().getMethodName() + ": " + browserLog.getErrorCount());
+        }
+        Reporter.log("Browser log: " + browserLog.getCounts());
     }
 
     @AfterClass
     public void tearDown() {
+        if (ConfigReader.isElementCacheEnabled()) {
+            Reporter.log("Element cache, all classes so far: " + ElementCache.totals());
+        }
         if (driver != null) {
             driver.quit();
         }
     }
 
+    /**
+     * Get the browser log buffer.
+     * @return browser log buffer or null if disabled or not supported
+     */
+    public BrowserLogBuffer getBrowserLog() {
+        return browserLog;
+    }
+
     /**
      * Get the WebDriver instance.
      * @return WebDriver
      */
-    protected WebDriver getDriver() {
+    public WebDriver getDriver() {
         return driver;
     }
 }
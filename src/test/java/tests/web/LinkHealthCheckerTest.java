@@ -0,0 +1,107 @@
+package tests.web;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utils.LinkHealthChecker;
+import utils.LinkHealthChecker.LinkStatus;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tests for the external link health checker against a local stub server.
+ * Does not need a browser or internet access, so it can run in CI.
+ */
+public class LinkHealthCheckerTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private volatile String lastGetRange;
+    private String baseUrl;
+    private LinkHealthChecker checker;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/head-rejected", exchange -> {
+            if ("GET".equals(exchange.getRequestMethod())) {
+                lastGetRange = exchange.getRequestHeaders().getFirst("Range");
+            }
+            exchange.sendResponseHeaders("HEAD".equals(exchange.getRequestMethod()) ? 405 : 206, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(3000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        checker = new LinkHealthChecker(Duration.ofSeconds(1), 0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (serverExecutor != null) {
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Verify reachable link is reported healthy")
+    public void testHealthyLink() {
+        LinkStatus status = checker.check(baseUrl + "/ok").join();
+
+        Assert.assertFalse(status.isBroken(), "Link should be healthy: " + status);
+        Assert.assertEquals(status.getMethod(), "HEAD", "HEAD should be enough for healthy link");
+    }
+
+    @Test(description = "Verify GET fallback when HEAD is rejected")
+    public void testGetFallbackWhenHeadRejected() {
+        LinkStatus status = checker.check(baseUrl + "/head-rejected").join();
+
+        Assert.assertFalse(status.isBroken(), "Link should be healthy after GET fallback: " + status);
+        Assert.assertEquals(status.getMethod(), "GET", "GET fallback should be used");
+        Assert.assertEquals(lastGetRange, "bytes=0-0", "GET fallback should request the first byte only");
+    }
+
+    @Test(description = "Verify missing page and timeout are reported broken")
+    public void testBrokenLinks() {
+        List<LinkStatus> statuses = checker.checkAll(List.of(baseUrl + "/missing", baseUrl + "/slow"));
+
+        Assert.assertEquals(statuses.get(0).getStatusCode(), 404, "Missing page should return 404");
+        Assert.assertTrue(statuses.get(0).isBroken(), "Missing page should be broken");
+        Assert.assertTrue(statuses.get(1).isBroken(), "Timed out link should be broken");
+        Assert.assertNotNull(statuses.get(1).getError(), "Timed out link should have an error");
+    }
+
+    @Test(description = "Verify results are cached across checks")
+    public void testResultsAreCached() {
+        String url = baseUrl + "/ok?cached";
+
+        Assert.assertSame(checker.check(url), checker.check(url), "Repeated check should reuse cached result");
+    }
+}
@@ -0,0 +1,184 @@
+package tests.web;
+
+import config.ConfigReader;
+import listeners.BrowserMatrixListener;
+import listeners.TimeBudget;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import pages.web.WikipediaArticlePage;
+import utils.BrowserPool;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Breadth-first crawl of Wikipedia articles with invariant checks on every page.
+ * Pages of one depth level are checked concurrently on a pool of browsers;
+ * results are streamed to a JSON lines report as each page completes.
+ */
+public class WikipediaArticleCrawlTest extends BaseWebTest {
+
+    private static final Json JSON = new Json();
+
+    // Pages are checked on the browser pool while the class session idles, so aborting it would not unblock anything
+    @TimeBudget(seconds = 0)
+    @Test(description = "Verify article invariants across a breadth-first crawl")
+    @Parameters({"browser", "crawlSeeds", "crawlMaxDepth", "crawlMaxPages", "crawlParallelism"})
+    public void testCrawlArticleInvariants(@Optional("") String browserParam,
+                                           @Optional("Java (programming language)") String seeds,
+                                           @Optional("1") int maxDepth,
+                                           @Optional("50") int maxPages,
+                                           @Optional("4") int parallelism) throws IOException {
+        String browser = browserParam.isEmpty() ? ConfigReader.getBrowser() : browserParam;
+        Set<String> visited = ConcurrentHashMap.newKeySet();
+        AtomicInteger budget = new AtomicInteger(maxPages);
+        AtomicInteger failures = new AtomicInteger();
+
+        List<String> level = new ArrayList<>();
+        for (String seed : seeds.split(",")) {
+            level.add(ConfigReader.getWikipediaEnUrl() + "/wiki/" + seed.trim().replace(' ', '_'));
+        }
+
+        Path report = Paths.get(ConfigReader.getCrawlReportDir(), BrowserMatrixListener.groupPrefixed("crawl-report.jsonl"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8);
+             BrowserPool pool = new BrowserPool(browser, ConfigReader.isHeadless(), parallelism)) {
+            for (int depth = 0; depth <= maxDepth && !level.isEmpty(); depth++) {
+                List<CompletableFuture<PageCheck>> futures = new ArrayList<>();
+                for (String url : level) {
+                    // Only pages actually submitted count as visited, so the reported count matches the crawl
+                    if (!visited.contains(url) && budget.get() > 0) {
+                        visited.add(url);
+                        budget.decrementAndGet();
+                        int pageDepth = depth;
+                        long submitted = System.nanoTime();
+                        futures.add(pool.submit(worker -> checkPage(worker, url, pageDepth))
+                                // The pool replaced the worker's broken browser; only this page is lost
+                                .exceptionally(error -> new PageCheck(url, pageDepth, (System.nanoTime() - submitted) / 1_000_000,
+                                        List.of("session failed: " + describe(error.getCause() != null ? error.getCause() : error)),
+                                        List.of()))
+                                .thenApply(check -> {
+                                    writeLine(writer, check.toMap());
+                                    if (!check.violations.isEmpty()) {
+                                        failures.incrementAndGet();
+                                    }
+                                    return check;
+                                }));
+                    }
+                }
+                List<String> nextLevel = new ArrayList<>();
+                for (CompletableFuture<PageCheck> future : futures) {
+                    for (String link : future.join().links) {
+                        if (!visited.contains(link)) {
+                            nextLevel.add(link);
+                        }
+                    }
+                }
+                level = nextLevel;
+            }
+        }
+
+        Reporter.log("Crawled " + visited.size() + " pages, " + failures.get() + " with violations, report: " + report);
+        Assert.assertEquals(failures.get(), 0, "Pages with invariant violations, see " + report);
+    }
+
+    /**
+     * Open article and check invariants.
+     * Page-level failures are recorded as violations; other driver errors propagate, so the pool
+     * replaces the worker's browser.
+     * @param driver worker WebDriver
+     * @param url article URL
+     * @param depth crawl depth of the article
+     * @return page check result with outgoing article links
+     */
+    private PageCheck checkPage(WebDriver driver, String url, int depth) {
+        long start = System.nanoTime();
+        List<String> violations = new ArrayList<>();
+        List<String> links = new ArrayList<>();
+        try {
+            driver.get(url);
+            WikipediaArticlePage articlePage = new WikipediaArticlePage(driver);
+            if (articlePage.getArticleTitle().trim().isEmpty()) {
+                violations.add("empty #firstHeading");
+            }
+            if (!articlePage.hasCategories()) {
+                violations.add("no categories");
+            }
+            for (String anchor : articlePage.getBrokenTocAnchors()) {
+                violations.add("broken TOC anchor " + anchor);
+            }
+            links = articlePage.getInternalArticleLinks();
+        } catch (NotFoundException | TimeoutException | StaleElementReferenceException e) {
+            violations.add(describe(e));
+        }
+        return new PageCheck(url, depth, (System.nanoTime() - start) / 1_000_000, violations, links);
+    }
+
+    private static String describe(Throwable error) {
+        String message = error.getMessage();
+        return error.getClass().getSimpleName() + (message != null ? ": " + message.split("\n")[0].trim() : "");
+    }
+
+    private static void writeLine(BufferedWriter writer, Map<String, Object> line) {
+        synchronized (writer) {
+            try {
+                writer.write(JSON.toJson(line));
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write crawl report", e);
+            }
+        }
+    }
+
+    /**
+     * Invariant check result for one article.
+     */
+    private static class PageCheck {
+
+        private final String url;
+        private final int depth;
+        private final long millis;
+        private final List<String> violations;
+        private final List<String> links;
+
+        PageCheck(String url, int depth, long millis, List<String> violations, List<String> links) {
+            this.url = url;
+            this.depth = depth;
+            this.millis = millis;
+            this.violations = violations;
+            this.links = links;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("url", url);
+            map.put("depth", depth);
+            map.put("millis", millis);
+            map.put("links", links.size());
+            map.put("violations", violations);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package tests.web;
+
+import config.ConfigReader;
+import listeners.BrowserMatrixListener;
+import listeners.TimeBudget;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import pages.web.WikipediaArticlePage;
+import utils.LinkHealthChecker;
+import utils.LinkHealthChecker.LinkStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * External link health check for Wikipedia articles.
+ * Produces a broken-link report; results are cached across articles.
+ */
+public class WikipediaExternalLinksTest extends BaseWebTest {
+
+    private final LinkHealthChecker checker = new LinkHealthChecker(
+            Duration.ofSeconds(ConfigReader.getLinkCheckTimeout()), ConfigReader.getLinkCheckHostInterval());
+
+    // Hundreds of links per article, spaced per host
+    @TimeBudget(seconds = 1200)
+    @Test(description = "Check health of external links in articles")
+    @Parameters({"linkCheckArticles"})
+    public void testArticleExternalLinks(@Optional("Albert Einstein") String articles) throws IOException {
+        List<LinkStatus> broken = new ArrayList<>();
+        int checked = 0;
+        for (String article : articles.split(",")) {
+            WikipediaArticlePage articlePage = new WikipediaArticlePage(driver);
+            articlePage.navigateTo(ConfigReader.getWikipediaEnUrl() + "/wiki/" + article.trim().replace(' ', '_'));
+
+            List<LinkStatus> statuses = checker.checkAll(articlePage.getExternalLinks());
+            checked += statuses.size();
+            broken.addAll(statuses.stream().filter(LinkStatus::isBroken).collect(Collectors.toList()));
+        }
+
+        Path report = Paths.get(ConfigReader.getCrawlReportDir(), BrowserMatrixListener.groupPrefixed("broken-links.txt"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.write(report, broken.stream().map(LinkStatus::toString).collect(Collectors.toList()),
+                StandardCharsets.UTF_8);
+        Reporter.log("Checked " + checked + " external links, broken: " + broken.size() + ", report: " + report);
+
+        Assert.assertTrue(checked > 0, "Articles should have external links");
+    }
+}
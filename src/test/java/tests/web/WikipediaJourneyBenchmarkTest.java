@@ -0,0 +1,43 @@
+package tests.web;
+
+import config.ConfigReader;
+import listeners.TimeBudget;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import pages.web.WikipediaArticlePage;
+import pages.web.WikipediaHomePage;
+import utils.JourneyBenchmark;
+
+import java.nio.file.Paths;
+
+/**
+ * Latency benchmark of key web user journeys.
+ * Iterations, warm-up and query are configured through TestNG XML parameters.
+ */
+public class WikipediaJourneyBenchmarkTest extends BaseWebTest {
+
+    // Warm-up and measured iterations of the full journey
+    @TimeBudget(seconds = 900)
+    @Test(description = "Benchmark search -> first result -> article title journey")
+    @Parameters({"journeyWarmup", "journeyIterations", "journeyQuery"})
+    public void benchmarkSearchToArticle(@Optional("2") int warmup,
+                                         @Optional("10") int iterations,
+                                         @Optional("Java programming") String query) {
+        WikipediaHomePage homePage = new WikipediaHomePage(driver);
+
+        JourneyBenchmark.Result result = new JourneyBenchmark("web-search-to-article", warmup, iterations).run(
+                () -> homePage.open(ConfigReader.getWebBaseUrl()),
+                () -> {
+                    WikipediaArticlePage articlePage = homePage.search(query).clickFirstResult();
+                    Assert.assertFalse(articlePage.getArticleTitle().isEmpty(), "Article should have a title");
+                });
+
+        Reporter.log(result.toString());
+        Reporter.getCurrentTestResult().setAttribute("journey", result);
+        result.appendTo(Paths.get(ConfigReader.getBenchmarkResultsDir(), "journeys.csv"));
+        Assert.assertEquals(result.getStats().getCount(), iterations, "All iterations should be measured");
+    }
+}
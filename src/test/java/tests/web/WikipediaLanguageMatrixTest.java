@@ -0,0 +1,160 @@
+package tests.web;
+
+import config.ConfigReader;
+import listeners.BrowserMatrixListener;
+import listeners.TimeBudget;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import pages.web.WikipediaArticlePage;
+import pages.web.WikipediaHomePage;
+import pages.web.WikipediaSearchResultsPage;
+import utils.BrowserPool;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Smoke matrix across all Wikipedia language editions linked from the portal.
+ * Editions run concurrently on a bounded pool of browsers; produces a per-language
+ * latency and pass/fail table.
+ */
+public class WikipediaLanguageMatrixTest extends BaseWebTest {
+
+    // Editions run on the browser pool while the class session idles, so aborting it would not unblock anything
+    @TimeBudget(seconds = 0)
+    @Test(description = "Verify open -> search -> first article journey on every language edition")
+    @Parameters({"browser", "matrixParallelism", "matrixMaxEditions", "matrixQuery"})
+    public void testLanguageEditionsSmoke(@Optional("") String browserParam,
+                                          @Optional("4") int parallelism,
+                                          @Optional("0") int maxEditions,
+                                          @Optional("Wikipedia") String query) throws IOException {
+        WikipediaHomePage homePage = new WikipediaHomePage(driver).open(ConfigReader.getWebBaseUrl());
+        List<String> editions = homePage.getLanguageEditionUrls();
+        if (maxEditions > 0 && editions.size() > maxEditions) {
+            editions = editions.subList(0, maxEditions);
+        }
+        String browser = browserParam.isEmpty() ? ConfigReader.getBrowser() : browserParam;
+
+        List<EditionResult> results;
+        try (BrowserPool pool = new BrowserPool(browser, ConfigReader.isHeadless(), parallelism)) {
+            List<CompletableFuture<EditionResult>> futures = new ArrayList<>();
+            for (String edition : editions) {
+                long submitted = System.nanoTime();
+                // A broken worker browser or unexpected error fails only this edition
+                futures.add(pool.submit(worker -> runSmokeJourney(worker, edition, query))
+                        .exceptionally(error -> new EditionResult(edition, elapsedMillis(submitted), false,
+                                describe(error.getCause() != null ? error.getCause() : error))));
+            }
+            results = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        }
+
+        String table = formatTable(results);
+        Reporter.log(table);
+        writeCsv(Paths.get(ConfigReader.getBenchmarkResultsDir(), BrowserMatrixListener.groupPrefixed("language-matrix.csv")), results);
+
+        List<String> failed = results.stream()
+                .filter(result -> !result.passed)
+                .map(result -> result.edition + " (" + result.error + ")")
+                .collect(Collectors.toList());
+        Assert.assertTrue(failed.isEmpty(), failed.size() + " of " + results.size()
+                + " editions failed: " + failed);
+    }
+
+    /**
+     * Open edition, search, open first article and verify its heading.
+     * Page-level failures are recorded in the result; other driver errors propagate, so the pool
+     * replaces the worker's browser.
+     * @param driver worker WebDriver
+     * @param edition edition main page URL
+     * @param query search query
+     * @return edition result
+     */
+    private EditionResult runSmokeJourney(WebDriver driver, String edition, String query) {
+        long start = System.nanoTime();
+        try {
+            driver.get(edition);
+            String mainPageUrl = driver.getCurrentUrl();
+            WikipediaSearchResultsPage resultsPage = new WikipediaArticlePage(driver).search(query);
+            new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()))
+                    .until(ExpectedConditions.not(ExpectedConditions.urlToBe(mainPageUrl)));
+            // An exact title match opens the article directly; looking for results there would
+            // wait out the implicit wait on every edition
+            WikipediaArticlePage articlePage = resultsPage.isResultsList() && resultsPage.hasResults()
+                    ? resultsPage.clickFirstResult()
+                    : new WikipediaArticlePage(driver);
+            if (articlePage.getArticleTitle().isEmpty()) {
+                throw new AssertionError("Empty #firstHeading");
+            }
+            return new EditionResult(edition, elapsedMillis(start), true, "");
+        } catch (NotFoundException | TimeoutException | StaleElementReferenceException | AssertionError e) {
+            return new EditionResult(edition, elapsedMillis(start), false, describe(e));
+        }
+    }
+
+    /**
+     * Describe a failure for the report: exception class and first line of its message.
+     */
+    private static String describe(Throwable error) {
+        String message = error.getMessage();
+        return error.getClass().getSimpleName() + (message != null ? ": " + message.split("\n")[0].trim() : "");
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String formatTable(List<EditionResult> results) {
+        StringBuilder table = new StringBuilder(String.format("%-40s %10s  %s%n", "Edition", "Time, ms", "Result"));
+        for (EditionResult result : results) {
+            table.append(String.format("%-40s %10d  %s%n", result.edition, result.millis,
+                    result.passed ? "PASS" : "FAIL " + result.error));
+        }
+        return table.toString();
+    }
+
+    private static void writeCsv(Path file, List<EditionResult> results) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        StringBuilder csv = new StringBuilder("edition,millis,passed,error\n");
+        for (EditionResult result : results) {
+            csv.append(String.format(Locale.ROOT, "%s,%d,%b,\"%s\"%n",
+                    result.edition, result.millis, result.passed, result.error.replace("\"", "\"\"")));
+        }
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Smoke journey outcome for one language edition.
+     */
+    private static class EditionResult {
+
+        private final String edition;
+        private final long millis;
+        private final boolean passed;
+        private final String error;
+
+        EditionResult(String edition, long millis, boolean passed, String error) {
+            this.edition = edition;
+            this.millis = millis;
+            this.passed = passed;
+            this.error = error;
+        }
+    }
+}
@@ -10,6 +10,10 @@ import pages.web.WikipediaEnglishHomePage;
 import pages.web.WikipediaHomePage;
 import pages.web.WikipediaSearchResultsPage;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Web test class for Wikipedia website.
  * Contains test scenarios for main page, search, navigation, and article pages.
@@ -88,6 +92,24 @@ public class WikipediaWebTest extends BaseWebTest {
                 "Search for '" + query + "' should return results");
     }
 
+    @Test(priority = 5, description = "Verify results of several search pages are harvested without navigation")
+    public void testHarvestSearchResultPages() {
+        driver.get(ConfigReader.getWikipediaEnUrl() + "/w/index.php?search=planet&fulltext=1&ns0=1");
+        WikipediaSearchResultsPage resultsPage = new WikipediaSearchResultsPage(driver);
+        String firstPageUrl = resultsPage.getCurrentUrl();
+
+        List<String> titles = new ArrayList<>();
+        Iterator<WikipediaSearchResultsPage.SearchResult> results = resultsPage.harvestResults(3);
+        while (results.hasNext()) {
+            titles.add(results.next().getTitle());
+        }
+
+        Assert.assertEquals(resultsPage.getCurrentUrl(), firstPageUrl, "Harvesting should not navigate");
+        Assert.assertTrue(titles.size() > resultsPage.getResultsCount(),
+                "Results of following pages should be harvested, found: " + titles.size());
+        Assert.assertFalse(titles.contains(""), "Every harvested result should have a title");
+    }
+
     // ==================== Test Scenario 3: Navigation ====================
 
     @Test(priority = 6, description = "Verify clicking English link navigates to English Wikipedia")
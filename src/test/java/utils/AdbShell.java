@@ -0,0 +1,30 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Runs adb shell commands on the device through the Appium {@code mobile: shell} extension.
+ * Requires the Appium server to be started with relaxed security.
+ */
+public class AdbShell {
+
+    private AdbShell() {
+    }
+
+    /**
+     * Run shell command on the device.
+     * @param driver AndroidDriver instance
+     * @param command command name (e.g. "dumpsys")
+     * @param args command arguments
+     * @return command output
+     */
+    public static String run(AndroidDriver driver, String command, String... args) {
+        Object output = driver.executeScript("mobile: shell", Map.of(
+                "command", command,
+                "args", Arrays.asList(args)));
+        return output == null ? "" : String.valueOf(output);
+    }
+}
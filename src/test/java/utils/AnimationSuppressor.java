@@ -0,0 +1,93 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Disables CSS transitions, animations and smooth scrolling for a browser session.
+ * Registers a preload script that runs before page scripts on every new document
+ * and emulates prefers-reduced-motion, so UI components settle immediately.
+ * Browsers without these DevTools commands (e.g. Firefox) get the same styles injected
+ * through JavaScript after each navigation instead, see {@link #reapply(WebDriver)}.
+ */
+public class AnimationSuppressor {
+
+    private static final String PRELOAD_SCRIPT = loadScript("js/disable-animations.js");
+
+    private static final String PAGE_SCRIPT =
+            "if (!document.querySelector('style[data-test-disable-animations]')) {" + PRELOAD_SCRIPT + "}";
+
+    private static final Set<WebDriver> scriptFallback = Collections.newSetFromMap(
+            Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private AnimationSuppressor() {
+    }
+
+    /**
+     * Register the preload script for every new document of the session.
+     * Falls back to injecting the styles into each page when DevTools is not available.
+     * @param driver WebDriver instance
+     * @return true if the preload script is registered, false if the session uses the fallback
+     */
+    public static boolean install(WebDriver driver) {
+        try {
+            Optional<DevTools> devTools = driver instanceof HasDevTools
+                    ? ((HasDevTools) driver).maybeGetDevTools() : Optional.empty();
+            if (devTools.isPresent()) {
+                devTools.get().createSessionIfThereIsNotOne();
+                devTools.get().send(new Command<Void>("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", PRELOAD_SCRIPT)));
+                devTools.get().send(new Command<Void>("Emulation.setEmulatedMedia",
+                        Map.of("features", List.of(Map.of("name", "prefers-reduced-motion", "value", "reduce")))));
+                return true;
+            }
+        } catch (WebDriverException e) {
+            // No CDP connection or no Page/Emulation domain, e.g. Firefox
+        }
+        scriptFallback.add(driver);
+        reapply(driver);
+        return false;
+    }
+
+    /**
+     * Inject the styles into the current page if the session has no preload script.
+     * Called by page objects after navigation; does nothing for sessions with DevTools.
+     * @param driver WebDriver instance
+     */
+    public static void reapply(WebDriver driver) {
+        if (!scriptFallback.contains(driver)) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(PAGE_SCRIPT);
+        } catch (WebDriverException e) {
+            // Page is still unloading; the next navigation step injects the styles
+        }
+    }
+
+    private static String loadScript(String resource) {
+        try (InputStream input = AnimationSuppressor.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Script resource not found: " + resource);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load script resource: " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.nativekey.AndroidKey;
+import io.appium.java_client.android.nativekey.KeyEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cold and warm start benchmark for an Android application.
+ * Measures time from launch until the supplied readiness check passes
+ * and samples CPU and memory usage with {@code mobile: getPerformanceData}.
+ */
+public class AppStartupBenchmark {
+
+    private final AndroidDriver driver;
+    private final String appPackage;
+    private final Runnable waitForReady;
+
+    /**
+     * @param driver AndroidDriver instance
+     * @param appPackage application package
+     * @param waitForReady blocks until the app is ready for interaction
+     */
+    public AppStartupBenchmark(AndroidDriver driver, String appPackage, Runnable waitForReady) {
+        this.driver = driver;
+        this.appPackage = appPackage;
+        this.waitForReady = waitForReady;
+    }
+
+    /**
+     * Measure cold start: the app process is terminated before each launch.
+     * @param iterations number of measured launches
+     * @return startup result
+     */
+    public Result measureColdStart(int iterations) {
+        return measure("cold", iterations, () -> driver.terminateApp(appPackage));
+    }
+
+    /**
+     * Measure warm start: the app is sent to background before each launch.
+     * @param iterations number of measured launches
+     * @return startup result
+     */
+    public Result measureWarmStart(int iterations) {
+        return measure("warm", iterations, () -> driver.pressKey(new KeyEvent(AndroidKey.HOME)));
+    }
+
+    private Result measure(String type, int iterations, Runnable prepare) {
+        List<Double> samples = new ArrayList<>();
+        List<Map<String, Object>> cpu = new ArrayList<>();
+        List<Map<String, Object>> memory = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            prepare.run();
+            long start = System.nanoTime();
+            driver.activateApp(appPackage);
+            waitForReady.run();
+            samples.add((System.nanoTime() - start) / 1_000_000.0);
+            cpu.add(getPerformanceData("cpuinfo"));
+            memory.add(getPerformanceData("memoryinfo"));
+        }
+        return new Result(type, new LatencyStats(samples), cpu, memory);
+    }
+
+    /**
+     * Read performance data for the app package.
+     * @param dataType cpuinfo, memoryinfo, batteryinfo or networkinfo
+     * @return map of field name to value, empty if data is not available
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getPerformanceData(String dataType) {
+        Map<String, Object> values = new HashMap<>();
+        try {
+            List<List<Object>> data = (List<List<Object>>) driver.executeScript("mobile: getPerformanceData",
+                    Map.of("packageName", appPackage, "dataType", dataType));
+            if (data != null && data.size() > 1) {
+                List<Object> names = data.get(0);
+                List<Object> row = data.get(1);
+                for (int i = 0; i < names.size() && i < row.size(); i++) {
+                    values.put(String.valueOf(names.get(i)), row.get(i));
+                }
+            }
+        } catch (Exception e) {
+            // Performance data not supported by the device
+        }
+        return values;
+    }
+
+    /**
+     * Startup timings and resource samples of one benchmark run.
+     */
+    public static class Result {
+
+        private final String type;
+        private final LatencyStats stats;
+        private final List<Map<String, Object>> cpuSamples;
+        private final List<Map<String, Object>> memorySamples;
+
+        Result(String type, LatencyStats stats, List<Map<String, Object>> cpuSamples,
+               List<Map<String, Object>> memorySamples) {
+            this.type = type;
+            this.stats = stats;
+            this.cpuSamples = cpuSamples;
+            this.memorySamples = memorySamples;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public LatencyStats getStats() {
+            return stats;
+        }
+
+        public List<Map<String, Object>> getCpuSamples() {
+            return cpuSamples;
+        }
+
+        public List<Map<String, Object>> getMemorySamples() {
+            return memorySamples;
+        }
+
+        /**
+         * Get mean of a numeric field across samples.
+         * @param samples CPU or memory samples
+         * @param field field name (e.g. "user", "totalPss")
+         * @return mean value or 0 if field is absent
+         */
+        public static double mean(List<Map<String, Object>> samples, String field) {
+            return samples.stream()
+                    .map(sample -> sample.get(field))
+                    .filter(value -> value != null && String.valueOf(value).matches("-?\\d+(\\.\\d+)?"))
+                    .mapToDouble(value -> Double.parseDouble(String.valueOf(value)))
+                    .average()
+                    .orElse(0);
+        }
+
+        /**
+         * Append result as a CSV row so startup can be tracked across app versions.
+         * @param file CSV file
+         * @param appVersion application version label
+         */
+        public void appendTo(Path file, String appVersion) {
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                if (!Files.exists(file)) {
+                    Files.write(file, "timestamp,appVersion,type,count,p50,p90,p95,p99,max,cpuUser,cpuKernel,totalPss\n"
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                String row = String.format(Locale.ROOT, "%s,%s,%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.0f%n",
+                        Instant.now(), appVersion, type, stats.getCount(), stats.getP50(), stats.getP90(),
+                        stats.getP95(), stats.getP99(), stats.getMax(),
+                        mean(cpuSamples, "user"), mean(cpuSamples, "kernel"), mean(memorySamples, "totalPss"));
+                Files.write(file, row.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write startup benchmark results: " + file, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s start: %s, cpu user=%.1f%%, totalPss=%.0f kB",
+                    type, stats, mean(cpuSamples, "user"), mean(memorySamples, "totalPss"));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package utils;
+
+import config.ConfigReader;
+import io.appium.java_client.service.local.AppiumDriverLocalService;
+import io.appium.java_client.service.local.AppiumServiceBuilder;
+import io.appium.java_client.service.local.flags.GeneralServerFlag;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Local Appium servers owned by the test run.
+ * When appium.server.managed is enabled, servers are started in the background on free ports,
+ * one per device if appium.server.per.device is set, and their logs are written to appium.log.dir.
+ * Otherwise the external server from appium.server.url is used.
+ */
+public class AppiumServerManager {
+
+    private static final String SHARED = "shared";
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "appium-server-start");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<String, CompletableFuture<AppiumDriverLocalService>> services = new ConcurrentHashMap<>();
+
+    private AppiumServerManager() {
+    }
+
+    /**
+     * Start the server for a device in the background, unless it is already started or starting.
+     * @param device device name
+     */
+    public static void start(String device) {
+        if (ConfigReader.isAppiumServerManaged()) {
+            startService(device);
+        }
+    }
+
+    /**
+     * Get Appium server URL for a device, waiting for a managed server to finish starting.
+     * @param device device name
+     * @return server URL
+     * @throws MalformedURLException if the configured external server URL is invalid
+     */
+    public static URL getServerUrl(String device) throws MalformedURLException {
+        if (!ConfigReader.isAppiumServerManaged()) {
+            return new URL(ConfigReader.getAppiumServerUrl());
+        }
+        try {
+            return startService(device).join().getUrl();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Local Appium server failed to start for " + device, e.getCause());
+        }
+    }
+
+    /**
+     * Stop all managed servers.
+     * Waits for servers that are still starting up to the start timeout, so they are stopped
+     * before the run exits instead of being left running by a daemon thread.
+     */
+    public static void stopAll() {
+        List<CompletableFuture<AppiumDriverLocalService>> pending = new ArrayList<>(services.values());
+        services.clear();
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                    .get(ConfigReader.getAppiumServerStartTimeout(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed starts have nothing to stop, slow ones are stopped below if they finish
+        }
+        for (CompletableFuture<AppiumDriverLocalService> service : pending) {
+            if (service.isDone() && !service.isCompletedExceptionally()) {
+                service.join().stop();
+            } else {
+                service.thenAccept(AppiumDriverLocalService::stop);
+            }
+        }
+    }
+
+    private static CompletableFuture<AppiumDriverLocalService> startService(String device) {
+        String key = ConfigReader.isAppiumServerPerDevice() ? device : SHARED;
+        return services.computeIfAbsent(key, name -> CompletableFuture.supplyAsync(() -> {
+            AppiumDriverLocalService service = AppiumDriverLocalService.buildService(new AppiumServiceBuilder()
+                    .withIPAddress("127.0.0.1")
+                    .usingAnyFreePort()
+                    .withArgument(GeneralServerFlag.RELAXED_SECURITY)
+                    .withArgument(GeneralServerFlag.SESSION_OVERRIDE)
+                    .withArgument(GeneralServerFlag.LOG_LEVEL, "info")
+                    .withLogFile(logFile(name).toFile())
+                    .withTimeout(Duration.ofSeconds(ConfigReader.getAppiumServerStartTimeout())));
+            service.clearOutPutStreams();
+            service.start();
+            return service;
+        }, executor));
+    }
+
+    private static Path logFile(String name) {
+        Path dir = Paths.get(ConfigReader.getAppiumLogDir());
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create Appium log directory: " + dir, e);
+        }
+        return dir.resolve("appium-" + name.replaceAll("[^\\w.-]", "_") + ".log");
+    }
+}
@@ -0,0 +1,166 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded in-memory buffer of browser console messages, uncaught exceptions and browser log entries.
+ * Subscribes to the DevTools Runtime and Log domains, keeps the last lines and counts
+ * entries per severity (error, warning, info, debug). Counters and lines are reset per test;
+ * lines are only written to disk with failure artifacts.
+ */
+public class BrowserLogBuffer {
+
+    private final int capacity;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private final Map<String, Integer> counts = new TreeMap<>();
+    private long dropped;
+
+    /**
+     * @param capacity maximum number of buffered lines
+     */
+    public BrowserLogBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Check if the buffer is supported by the driver.
+     * @param driver WebDriver instance
+     * @return true if driver exposes DevTools
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * Start buffering browser logs of the driver session.
+     * Buffered lines are kept, so the buffer can be attached to a restarted session.
+     * @param driver WebDriver instance supporting DevTools
+     */
+    public void attach(WebDriver driver) {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(event("Runtime.consoleAPICalled"), this::onConsoleApiCalled);
+        devTools.addListener(event("Runtime.exceptionThrown"), this::onExceptionThrown);
+        devTools.addListener(event("Log.entryAdded"), this::onLogEntryAdded);
+        devTools.send(new Command<Void>("Runtime.enable", Map.of()));
+        devTools.send(new Command<Void>("Log.enable", Map.of()));
+    }
+
+    private void onConsoleApiCalled(Map<String, Object> params) {
+        String type = String.valueOf(params.get("type"));
+        String severity;
+        switch (type) {
+            case "error":
+            case "assert":
+                severity = "error";
+                break;
+            case "warning":
+                severity = "warning";
+                break;
+            case "debug":
+            case "trace":
+                severity = "debug";
+                break;
+            default:
+                severity = "info";
+        }
+        StringBuilder text = new StringBuilder();
+        Object args = params.get("args");
+        if (args instanceof List) {
+            for (Object arg : (List<?>) args) {
+                Map<?, ?> remoteObject = (Map<?, ?>) arg;
+                Object value = remoteObject.containsKey("value") ? remoteObject.get("value") : remoteObject.get("description");
+                text.append(text.length() > 0 ? " " : "").append(value);
+            }
+        }
+        add(severity, "console." + type, text.toString());
+    }
+
+    private void onExceptionThrown(Map<String, Object> params) {
+        Map<?, ?> details = (Map<?, ?>) params.get("exceptionDetails");
+        Object exception = details.get("exception");
+        Object description = exception instanceof Map ? ((Map<?, ?>) exception).get("description") : null;
+        add("error", "exception", (description != null ? description : details.get("text"))
+                + " at " + details.get("url") + ":" + details.get("lineNumber"));
+    }
+
+    private void onLogEntryAdded(Map<String, Object> params) {
+        Map<?, ?> entry = (Map<?, ?>) params.get("entry");
+        String level = String.valueOf(entry.get("level"));
+        String severity = "verbose".equals(level) ? "debug" : level;
+        Object url = entry.get("url");
+        add(severity, "log." + entry.get("source"), entry.get("text") + (url != null ? " " + url : ""));
+    }
+
+    private void add(String severity, String source, String text) {
+        synchronized (lines) {
+            counts.merge(severity, 1, Integer::sum);
+            if (lines.size() == capacity) {
+                lines.removeFirst();
+                dropped++;
+            }
+            lines.addLast(System.currentTimeMillis() + " " + severity.toUpperCase() + " [" + source + "] " + text);
+        }
+    }
+
+    /**
+     * Discard lines and counters, e.g. before the next test.
+     */
+    public void reset() {
+        synchronized (lines) {
+            lines.clear();
+            counts.clear();
+            dropped = 0;
+        }
+    }
+
+    /**
+     * Get number of entries per severity since the last reset.
+     * @return counts by severity (error, warning, info, debug)
+     */
+    public Map<String, Integer> getCounts() {
+        synchronized (lines) {
+            return new TreeMap<>(counts);
+        }
+    }
+
+    /**
+     * Get number of errors (console errors and uncaught exceptions) since the last reset.
+     * @return error count
+     */
+    public int getErrorCount() {
+        return getCounts().getOrDefault("error", 0);
+    }
+
+    /**
+     * Get buffered lines as text.
+     * @return buffered lines, oldest first
+     */
+    public String dump() {
+        synchronized (lines) {
+            StringBuilder text = new StringBuilder();
+            if (dropped > 0) {
+                text.append("... ").append(dropped).append(" earlier lines dropped\n");
+            }
+            for (String line : lines) {
+                text.append(line).append('\n');
+            }
+            return text.toString();
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String name) {
+        return new Event<>(name, input -> input.read(Json.MAP_TYPE));
+    }
+}
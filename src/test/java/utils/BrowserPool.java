@@ -0,0 +1,98 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Fixed-size pool of worker threads, each owning one browser.
+ * Bounds the number of concurrently open browsers; browsers are created lazily
+ * on first use by a worker and reused for all its tasks.
+ */
+public class BrowserPool implements AutoCloseable {
+
+    private final String browser;
+    private final boolean headless;
+    private final ExecutorService executor;
+    private final ThreadLocal<WebDriver> workerDriver = new ThreadLocal<>();
+    private final List<WebDriver> drivers = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param browser browser name (chrome, firefox, edge)
+     * @param headless run browsers in headless mode
+     * @param size maximum number of concurrent browsers
+     */
+    public BrowserPool(String browser, boolean headless, int size) {
+        this.browser = browser;
+        this.headless = headless;
+        this.executor = Executors.newFixedThreadPool(size);
+    }
+
+    /**
+     * Run task on a free worker browser.
+     * If the task fails with a {@link WebDriverException}, the worker's browser is assumed broken
+     * and replaced before its next task.
+     * @param task task using the worker's WebDriver
+     * @param <T> task result type
+     * @return future completed with task result, or exceptionally if the browser could not start or the task failed
+     */
+    public <T> CompletableFuture<T> submit(Function<WebDriver, T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            WebDriver driver = getWorkerDriver();
+            try {
+                return task.apply(driver);
+            } catch (WebDriverException e) {
+                discardWorkerDriver(driver);
+                throw e;
+            }
+        }, executor);
+    }
+
+    private WebDriver getWorkerDriver() {
+        WebDriver driver = workerDriver.get();
+        if (driver == null) {
+            driver = WebDriverFactory.create(browser, headless);
+            workerDriver.set(driver);
+            drivers.add(driver);
+        }
+        return driver;
+    }
+
+    private void discardWorkerDriver(WebDriver driver) {
+        workerDriver.remove();
+        drivers.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // Browser already gone
+        }
+    }
+
+    /**
+     * Wait for running tasks and quit all worker browsers.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (WebDriver driver : drivers) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                // Browser already gone
+            }
+        }
+        drivers.clear();
+    }
+}
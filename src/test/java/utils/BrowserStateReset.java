@@ -0,0 +1,68 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-test browser state isolation without starting a new browser.
+ * On DevTools-capable browsers clears cookies, HTTP cache and, for each origin, local storage,
+ * IndexedDB, Cache Storage and service workers with one command per origin.
+ * Elsewhere, including Firefox without CDP, falls back to WebDriver cookie deletion and clearing
+ * storage of the current page.
+ */
+public class BrowserStateReset {
+
+    private static final String ORIGIN_STORAGE_TYPES = "local_storage,indexeddb,websql,cache_storage,service_workers";
+
+    private static final String CLEAR_PAGE_STORAGE_SCRIPT =
+            "try { localStorage.clear(); } catch (e) {}" +
+            "try { sessionStorage.clear(); } catch (e) {}";
+
+    private BrowserStateReset() {
+    }
+
+    /**
+     * Clear browser state left by the previous test.
+     * @param driver WebDriver instance
+     * @param origins origins to clear storage for, e.g. "https://en.wikipedia.org"
+     * @return true if state was cleared through DevTools, false if the WebDriver fallback was used
+     */
+    public static boolean clear(WebDriver driver, List<String> origins) {
+        boolean devToolsCleared = clearWithDevTools(driver, origins);
+        if (!devToolsCleared) {
+            driver.manage().deleteAllCookies();
+        }
+        // Session storage is per tab and not covered by Storage.clearDataForOrigin
+        ((JavascriptExecutor) driver).executeScript(CLEAR_PAGE_STORAGE_SCRIPT);
+        return devToolsCleared;
+    }
+
+    private static boolean clearWithDevTools(WebDriver driver, List<String> origins) {
+        try {
+            Optional<DevTools> devTools = driver instanceof HasDevTools
+                    ? ((HasDevTools) driver).maybeGetDevTools() : Optional.empty();
+            if (devTools.isEmpty()) {
+                return false;
+            }
+            devTools.get().createSessionIfThereIsNotOne();
+            devTools.get().send(new Command<Void>("Network.clearBrowserCookies", Map.of()));
+            devTools.get().send(new Command<Void>("Network.clearBrowserCache", Map.of()));
+            for (String origin : origins) {
+                devTools.get().send(new Command<Void>("Storage.clearDataForOrigin",
+                        Map.of("origin", origin, "storageTypes", ORIGIN_STORAGE_TYPES)));
+            }
+            return true;
+        } catch (WebDriverException e) {
+            // No CDP connection or no Network/Storage domain, e.g. Firefox
+            return false;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-time device preparation per device and test run.
+ * Disables window, transition and animator scales and grants the app's runtime permissions
+ * through adb shell; the first session of a device then completes onboarding once.
+ * Later sessions keep the prepared app state (noReset) instead of replaying onboarding, and the app
+ * is restarted to its main activity for each of them. App data written by earlier classes (search
+ * history, saved articles, settings) is kept as well: classes on a prepared device are not isolated
+ * from each other, disable device preparation when a test depends on a fresh app.
+ * Original animation scales are restored with local adb at the end of the run.
+ */
+public class DevicePreparation {
+
+    private static final String[] ANIMATION_SCALES = {
+            "window_animation_scale", "transition_animation_scale", "animator_duration_scale"
+    };
+
+    private static final Set<String> preparedDevices = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Object> deviceLocks = new ConcurrentHashMap<>();
+    private static final Map<AndroidDriver, Boolean> preparedSessions = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, Map<String, String>> originalScales = new ConcurrentHashMap<>();
+
+    private DevicePreparation() {
+    }
+
+    /**
+     * Check if the device was prepared in this run, so sessions can keep app state.
+     * @param device device name
+     * @return true if prepared
+     */
+    public static boolean isPrepared(String device) {
+        return preparedDevices.contains(device);
+    }
+
+    /**
+     * Get lock held while a device is being prepared, so parallel classes wait for one preparation.
+     * @param device device name
+     * @return lock object of the device
+     */
+    public static Object lockFor(String device) {
+        return deviceLocks.computeIfAbsent(device, key -> new Object());
+    }
+
+    /**
+     * Check if the session runs on a prepared app state, where onboarding is already completed.
+     * @param driver AndroidDriver session
+     * @return true if onboarding does not need to be checked
+     */
+    public static boolean isOnboardingComplete(AndroidDriver driver) {
+        return preparedSessions.containsKey(driver);
+    }
+
+    /**
+     * Mark a session started on a prepared device.
+     * @param driver AndroidDriver session
+     */
+    public static void markPreparedSession(AndroidDriver driver) {
+        preparedSessions.put(driver, Boolean.TRUE);
+    }
+
+    /**
+     * Restart the app to its main activity in a session that kept the prepared app state,
+     * so a class does not start on the screen the previous class left open.
+     * @param driver AndroidDriver session
+     * @param appPackage application package
+     */
+    public static void restartApp(AndroidDriver driver, String appPackage) {
+        driver.terminateApp(appPackage);
+        driver.activateApp(appPackage);
+    }
+
+    /**
+     * Prepare device settings and app permissions.
+     * Shell steps require the Appium server to be started with relaxed security and are skipped otherwise.
+     * @param driver AndroidDriver session on the device
+     * @param device device name, used as adb serial to restore settings at the end of the run
+     * @param appPackage application package
+     * @param completeOnboarding completes onboarding in the running app
+     */
+    public static void prepare(AndroidDriver driver, String device, String appPackage, Runnable completeOnboarding) {
+        try {
+            Map<String, String> scales = new LinkedHashMap<>();
+            for (String scale : ANIMATION_SCALES) {
+                String value = AdbShell.run(driver, "settings", "get", "global", scale).trim();
+                scales.put(scale, value.isEmpty() || "null".equals(value) ? "1" : value);
+            }
+            originalScales.putIfAbsent(device, scales);
+            for (String scale : ANIMATION_SCALES) {
+                AdbShell.run(driver, "settings", "put", "global", scale, "0");
+            }
+            for (String permission : getDeniedRuntimePermissions(driver, appPackage)) {
+                try {
+                    AdbShell.run(driver, "pm", "grant", appPackage, permission);
+                } catch (Exception e) {
+                    // Permission is not changeable (e.g. install-time or system fixed)
+                }
+            }
+        } catch (Exception e) {
+            // Shell access not allowed
+        }
+        completeOnboarding.run();
+    }
+
+    /**
+     * Mark device as prepared.
+     * @param device device name
+     */
+    public static void markPrepared(String device) {
+        preparedDevices.add(device);
+    }
+
+    /**
+     * Restore animation scales of all prepared devices through local adb.
+     * Sessions are already closed at the end of the run; devices not reachable by local adb
+     * (e.g. behind a remote Appium server) keep the disabled scales.
+     */
+    public static void restoreAnimationScales() {
+        for (Map.Entry<String, Map<String, String>> device : originalScales.entrySet()) {
+            for (Map.Entry<String, String> scale : device.getValue().entrySet()) {
+                try {
+                    Process process = new ProcessBuilder("adb", "-s", device.getKey(), "shell", "settings", "put",
+                            "global", scale.getKey(), scale.getValue())
+                            .redirectErrorStream(true)
+                            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                            .start();
+                    if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (IOException e) {
+                    // adb not available locally
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        originalScales.clear();
+    }
+
+    private static List<String> getDeniedRuntimePermissions(AndroidDriver driver, String appPackage) {
+        List<String> denied = new ArrayList<>();
+        boolean runtimeSection = false;
+        for (String line : AdbShell.run(driver, "dumpsys", "package", appPackage).split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("runtime permissions:")) {
+                runtimeSection = true;
+            } else if (runtimeSection && trimmed.contains(": granted=")) {
+                if (trimmed.contains("granted=false")) {
+                    denied.add(trimmed.substring(0, trimmed.indexOf(':')));
+                }
+            } else if (runtimeSection && !trimmed.isEmpty()) {
+                runtimeSection = false;
+            }
+        }
+        return denied;
+    }
+}
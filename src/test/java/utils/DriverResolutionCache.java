@@ -0,0 +1,192 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Machine-wide cache of resolved browser drivers.
+ * The first resolution of a browser goes through WebDriverManager; the detected browser binary,
+ * its version and the downloaded driver are saved in a manifest keyed by browser version:
+ * <pre>
+ * chrome.binary=/usr/bin/google-chrome
+ * chrome.binary.modified=1718000000000
+ * chrome.binary.version=126.0.6478.61
+ * chrome.126.0.6478.61.driver=/home/ci/.cache/selenium/chromedriver/linux64/126.0.6478.61/chromedriver
+ * </pre>
+ * When the version of an installed browser cannot be detected, the driver is recorded under
+ * {@value #UNKNOWN_VERSION} and still invalidated by the binary modification time.
+ * Later setups in any JVM or fork only compare the binary modification time and check that the driver
+ * exists, without network access or starting processes. A browser update changes the modification
+ * time, so its new version is resolved once and added to the manifest. Resolution is serialized
+ * between processes with a file lock.
+ */
+public class DriverResolutionCache {
+
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+    private DriverResolutionCache() {
+    }
+
+    /**
+     * Make the driver of a browser available to Selenium through its system property.
+     * @param browser browser name (chrome, firefox, edge)
+     * @param cacheDir directory of the manifest
+     * @return driver binary path
+     */
+    public static String setup(String browser, Path cacheDir) {
+        String name = browser.toLowerCase();
+        String driverPath = resolved.computeIfAbsent(name, key -> resolve(key, cacheDir));
+        System.setProperty(driverProperty(name), driverPath);
+        return driverPath;
+    }
+
+    private static String resolve(String browser, Path cacheDir) {
+        Path manifest = cacheDir.resolve("driver-manifest.properties");
+        String cached = lookup(browser, load(manifest));
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            try (FileChannel channel = FileChannel.open(cacheDir.resolve("driver-manifest.lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    // Another fork may have resolved the driver while this one waited for the lock
+                    Properties entries = load(manifest);
+                    cached = lookup(browser, entries);
+                    if (cached != null) {
+                        return cached;
+                    }
+                    String driverPath = download(browser, entries);
+                    save(manifest, entries);
+                    return driverPath;
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update driver manifest: " + manifest, e);
+        }
+    }
+
+    /**
+     * Find a cached driver for the installed browser version.
+     * @return driver path or null if the browser changed or the driver was removed
+     */
+    private static String lookup(String browser, Properties entries) {
+        String binary = entries.getProperty(browser + ".binary");
+        String version = entries.getProperty(browser + ".binary.version");
+        if (binary == null || version == null || !String.valueOf(lastModified(Path.of(binary)))
+                .equals(entries.getProperty(browser + ".binary.modified"))) {
+            return null;
+        }
+        String driverPath = entries.getProperty(browser + "." + version + ".driver");
+        return driverPath != null && Files.isRegularFile(Path.of(driverPath)) ? driverPath : null;
+    }
+
+    /**
+     * Resolve the driver with WebDriverManager and record it in the manifest entries.
+     */
+    private static String download(String browser, Properties entries) {
+        WebDriverManager manager;
+        switch (browser) {
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            case "edge":
+                manager = WebDriverManager.edgedriver();
+                break;
+            case "chrome":
+            default:
+                manager = WebDriverManager.chromedriver();
+                break;
+        }
+        Optional<Path> binary = manager.getBrowserPath();
+        Optional<String> version = binary.isPresent() ? detectVersion(browser) : Optional.empty();
+        version.ifPresent(manager::browserVersion);
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+        if (binary.isPresent()) {
+            String key = version.orElse(UNKNOWN_VERSION);
+            entries.setProperty(browser + ".binary", binary.get().toString());
+            entries.setProperty(browser + ".binary.modified", String.valueOf(lastModified(binary.get())));
+            entries.setProperty(browser + ".binary.version", key);
+            entries.setProperty(browser + "." + key + ".driver", driverPath);
+        }
+        return driverPath;
+    }
+
+    /**
+     * Get browser version with the shell commands of WebDriverManager (registry queries on Windows,
+     * {@code --version} elsewhere), using the bundled command list instead of fetching it online.
+     * @return version or empty if it could not be detected
+     */
+    private static Optional<String> detectVersion(String browser) {
+        Config config = new Config().setCommandsPropertiesOnlineFirst(false);
+        try (HttpClient httpClient = new HttpClient(config)) {
+            return new VersionDetector(config, httpClient).getBrowserVersionFromTheShell(browser);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Properties load(Path manifest) {
+        Properties entries = new Properties();
+        if (Files.exists(manifest)) {
+            try (InputStream input = Files.newInputStream(manifest)) {
+                entries.load(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load driver manifest: " + manifest, e);
+            }
+        }
+        return entries;
+    }
+
+    private static void save(Path manifest, Properties entries) throws IOException {
+        Path temp = manifest.resolveSibling(manifest.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temp)) {
+            entries.store(output, "Resolved browser drivers by browser version");
+        }
+        Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            case "chrome":
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-page cache of resolved elements, keyed by locator.
+ * Used as the search context of page elements: a cached reference is returned without
+ * a find command, and {@link LocatedElement} re-finds it only when the reference turns out
+ * to be stale. Missing elements and lists are never cached: lists change as pages load more items
+ * (search suggestions, results, feed), so each lookup re-finds them and waits keep polling.
+ */
+public class ElementCache implements SearchContext {
+
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    private final SearchContext context;
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * @param context driver or parent element to search in
+     */
+    public ElementCache(SearchContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        WebElement element = elements.get(by);
+        if (element != null) {
+            hit();
+            return element;
+        }
+        miss();
+        element = context.findElement(by);
+        elements.put(by, element);
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        miss();
+        return context.findElements(by);
+    }
+
+    /**
+     * Drop cached references of a locator, e.g. after a stale element error.
+     * @param by locator
+     */
+    public void invalidate(By by) {
+        elements.remove(by);
+    }
+
+    /**
+     * Drop all cached references, e.g. after navigation.
+     */
+    public void invalidate() {
+        elements.clear();
+    }
+
+    private void hit() {
+        hits++;
+        totalHits.incrementAndGet();
+    }
+
+    private void miss() {
+        misses++;
+        totalMisses.incrementAndGet();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get hit/miss counts of all element caches since the JVM started.
+     * @return summary of all caches
+     */
+    public static String totals() {
+        return "hits=" + totalHits.get() + ", misses=" + totalMisses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + ", misses=" + misses;
+    }
+}
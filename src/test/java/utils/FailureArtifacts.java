@@ -0,0 +1,199 @@
+package utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background writer for failure artifacts.
+ * The test thread only hands over raw data (base64 screenshot, page source, log lines);
+ * decoding, compression and hashing run on a background thread. Artifacts are stored
+ * content-addressed under objects/, so identical screenshots or pages are written once,
+ * and every failure gets a small manifest pointing to its objects.
+ */
+public class FailureArtifacts {
+
+    private final Path dir;
+    private final ExecutorService executor;
+    private final List<CompletableFuture<Path>> pending = new ArrayList<>();
+
+    /**
+     * @param dir artifact directory
+     */
+    public FailureArtifacts(Path dir) {
+        this.dir = dir;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "failure-artifacts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start building a set of artifacts of one failure.
+     * @param name failure name used for the manifest file
+     * @return artifact set
+     */
+    public Capture capture(String name) {
+        return new Capture(name);
+    }
+
+    /**
+     * Wait until all submitted artifacts are written and stop the writer.
+     */
+    public void close() {
+        CompletableFuture<?>[] futures;
+        synchronized (pending) {
+            futures = pending.toArray(new CompletableFuture<?>[0]);
+        }
+        CompletableFuture.allOf(futures).exceptionally(error -> null).join();
+        executor.shutdown();
+    }
+
+    /**
+     * Raw artifacts of one failure, collected on the test thread.
+     */
+    public class Capture {
+
+        private final String name;
+        private final Path manifestFile;
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private final Map<String, String> base64Files = new LinkedHashMap<>();
+        private final Map<String, String> textFiles = new LinkedHashMap<>();
+
+        private Capture(String name) {
+            this.name = name;
+            this.manifestFile = dir.resolve(name + "_" + System.currentTimeMillis() + ".properties");
+        }
+
+        /**
+         * Get manifest file, written once the capture is submitted and processed.
+         * @return manifest path
+         */
+        public Path getManifestFile() {
+            return manifestFile;
+        }
+
+        /**
+         * Add screenshot as returned by the driver, decoded in the background.
+         * @param base64Png base64-encoded PNG
+         * @return this capture
+         */
+        public Capture screenshot(String base64Png) {
+            base64Files.put("screenshot.png", base64Png);
+            return this;
+        }
+
+        /**
+         * Add text artifact, stored gzip-compressed.
+         * @param fileName artifact name, e.g. "page.html"
+         * @param text artifact content
+         * @return this capture
+         */
+        public Capture text(String fileName, String text) {
+            textFiles.put(fileName + ".gz", text);
+            return this;
+        }
+
+        /**
+         * Add a short value written into the manifest itself.
+         * @param key manifest key, e.g. "url"
+         * @param value value
+         * @return this capture
+         */
+        public Capture property(String key, String value) {
+            properties.put(key, value);
+            return this;
+        }
+
+        /**
+         * Hand the artifacts to the background writer.
+         * @return future completed with the manifest path
+         */
+        public CompletableFuture<Path> submit() {
+            CompletableFuture<Path> future = CompletableFuture.supplyAsync(this::write, executor);
+            synchronized (pending) {
+                pending.add(future);
+            }
+            return future;
+        }
+
+        private Path write() {
+            try {
+                Files.createDirectories(dir.resolve("objects"));
+                StringBuilder manifest = new StringBuilder();
+                for (Map.Entry<String, String> entry : properties.entrySet()) {
+                    manifest.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+                }
+                for (Map.Entry<String, String> entry : base64Files.entrySet()) {
+                    byte[] content = Base64.getMimeDecoder().decode(entry.getValue());
+                    manifest.append(entry.getKey()).append('=').append(store(entry.getKey(), content)).append('\n');
+                }
+                for (Map.Entry<String, String> entry : textFiles.entrySet()) {
+                    byte[] content = gzip(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                    manifest.append(entry.getKey()).append('=').append(store(entry.getKey(), content)).append('\n');
+                }
+                Files.write(manifestFile, manifest.toString().getBytes(StandardCharsets.UTF_8));
+                return manifestFile;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write failure artifacts: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * Store content under its hash, skipping content that is already stored.
+     * @param fileName artifact name, its extension is kept
+     * @param content artifact bytes
+     * @return object path relative to the artifact directory
+     */
+    private String store(String fileName, byte[] content) throws IOException {
+        Path object = dir.resolve("objects").resolve(sha256(content) + fileName.substring(fileName.indexOf('.')));
+        if (!Files.exists(object)) {
+            Path temp = Files.createTempFile(object.getParent(), "artifact", ".tmp");
+            Files.write(temp, content);
+            try {
+                Files.move(temp, object, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.delete(temp);
+            }
+        }
+        return "objects/" + object.getFileName();
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Frame rendering statistics of an Android app, read from {@code dumpsys gfxinfo}.
+ * Use {@link #capture(AndroidDriver, String, Runnable)} to measure a single gesture.
+ */
+public class FrameStats {
+
+    private static final Pattern TOTAL_FRAMES = Pattern.compile("(?m)^\\s*Total frames rendered: (\\d+)");
+    private static final Pattern JANKY_FRAMES = Pattern.compile("(?m)^\\s*Janky frames: (\\d+)");
+    private static final Pattern PERCENTILE = Pattern.compile("(?m)^\\s*(\\d+)th percentile: (\\d+)ms");
+
+    private final int totalFrames;
+    private final int jankyFrames;
+    private final int p50Millis;
+    private final int p90Millis;
+    private final int p95Millis;
+    private final int p99Millis;
+
+    private FrameStats(String gfxinfo) {
+        this.totalFrames = firstInt(TOTAL_FRAMES, gfxinfo);
+        this.jankyFrames = firstInt(JANKY_FRAMES, gfxinfo);
+        int p50 = 0;
+        int p90 = 0;
+        int p95 = 0;
+        int p99 = 0;
+        boolean summaryRead = false;
+        Matcher matcher = PERCENTILE.matcher(gfxinfo);
+        // Only the first block is the app-wide summary; later blocks repeat per window
+        while (!summaryRead && matcher.find()) {
+            int value = Integer.parseInt(matcher.group(2));
+            switch (matcher.group(1)) {
+                case "50":
+                    p50 = value;
+                    break;
+                case "90":
+                    p90 = value;
+                    break;
+                case "95":
+                    p95 = value;
+                    break;
+                case "99":
+                    p99 = value;
+                    summaryRead = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.p50Millis = p50;
+        this.p90Millis = p90;
+        this.p95Millis = p95;
+        this.p99Millis = p99;
+    }
+
+    /**
+     * Reset frame statistics, run the action and read statistics rendered during it.
+     * Returns empty statistics if shell access is not allowed on the Appium server.
+     * @param driver AndroidDriver instance
+     * @param appPackage application package
+     * @param action gesture to measure
+     * @return frame statistics of the action
+     */
+    public static FrameStats capture(AndroidDriver driver, String appPackage, Runnable action) {
+        boolean available = true;
+        try {
+            AdbShell.run(driver, "dumpsys", "gfxinfo", appPackage, "reset");
+        } catch (Exception e) {
+            available = false;
+        }
+        action.run();
+        if (!available) {
+            return new FrameStats("");
+        }
+        return new FrameStats(AdbShell.run(driver, "dumpsys", "gfxinfo", appPackage));
+    }
+
+    private static int firstInt(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    public int getTotalFrames() {
+        return totalFrames;
+    }
+
+    public int getJankyFrames() {
+        return jankyFrames;
+    }
+
+    /**
+     * Get share of janky frames.
+     * @return janky frames percentage, 0 if no frames were rendered
+     */
+    public double getJankyPercent() {
+        return totalFrames == 0 ? 0 : jankyFrames * 100.0 / totalFrames;
+    }
+
+    public int getP50Millis() {
+        return p50Millis;
+    }
+
+    public int getP90Millis() {
+        return p90Millis;
+    }
+
+    public int getP95Millis() {
+        return p95Millis;
+    }
+
+    public int getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * Append statistics as a CSV row so rendering performance can be tracked over time.
+     * @param file CSV file
+     * @param label gesture label (e.g. "feed-scroll")
+     */
+    public void appendTo(Path file, String label) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            if (!Files.exists(file)) {
+                Files.write(file, "timestamp,label,frames,janky,jankyPercent,p50,p90,p95,p99\n"
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            String row = String.format(Locale.ROOT, "%s,%s,%d,%d,%.2f,%d,%d,%d,%d%n",
+                    Instant.now(), label, totalFrames, jankyFrames, getJankyPercent(),
+                    p50Millis, p90Millis, p95Millis, p99Millis);
+            Files.write(file, row.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write frame stats: " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("frames=%d, janky=%d (%.2f%%), p50=%d ms, p90=%d ms, p95=%d ms, p99=%d ms",
+                totalFrames, jankyFrames, getJankyPercent(), p50Millis, p90Millis, p95Millis, p99Millis);
+    }
+}
@@ -0,0 +1,118 @@
+package utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Repeat-run latency harness for user journeys.
+ * Runs a journey several times after warm-up iterations and reports percentiles
+ * with 95% confidence intervals. Only the journey itself is timed, not the reset step.
+ */
+public class JourneyBenchmark {
+
+    private static final double Z_95 = 1.96;
+
+    private final String name;
+    private final int warmupIterations;
+    private final int iterations;
+
+    /**
+     * @param name journey name used in reports
+     * @param warmupIterations untimed iterations run first
+     * @param iterations timed iterations
+     */
+    public JourneyBenchmark(String name, int warmupIterations, int iterations) {
+        this.name = name;
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Run the journey.
+     * @param reset brings the application back to the journey start, not timed
+     * @param journey journey steps, timed
+     * @return benchmark result
+     */
+    public Result run(Runnable reset, Runnable journey) {
+        for (int i = 0; i < warmupIterations; i++) {
+            reset.run();
+            journey.run();
+        }
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            reset.run();
+            long start = System.nanoTime();
+            journey.run();
+            samples.add((System.nanoTime() - start) / 1_000_000.0);
+        }
+        return new Result(name, new LatencyStats(samples));
+    }
+
+    /**
+     * Latency statistics of one journey benchmark.
+     */
+    public static class Result {
+
+        private final String name;
+        private final LatencyStats stats;
+
+        Result(String name, LatencyStats stats) {
+            this.name = name;
+            this.stats = stats;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyStats getStats() {
+            return stats;
+        }
+
+        /**
+         * Append result as a CSV row.
+         * @param file CSV file
+         */
+        public void appendTo(Path file) {
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                if (!Files.exists(file)) {
+                    Files.write(file, "timestamp,journey,count,p50,p50Low,p50High,p95,p95Low,p95High,p99,p99Low,p99High\n"
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                StringBuilder row = new StringBuilder()
+                        .append(Instant.now()).append(',')
+                        .append(name).append(',')
+                        .append(stats.getCount());
+                for (double percentile : new double[] {50, 95, 99}) {
+                    double[] interval = stats.percentileConfidenceInterval(percentile, Z_95);
+                    row.append(String.format(Locale.ROOT, ",%.1f,%.1f,%.1f",
+                            stats.percentile(percentile), interval[0], interval[1]));
+                }
+                row.append(System.lineSeparator());
+                Files.write(file, row.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write journey benchmark results: " + file, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(name).append(": n=").append(stats.getCount());
+            for (double percentile : new double[] {50, 95, 99}) {
+                double[] interval = stats.percentileConfidenceInterval(percentile, Z_95);
+                text.append(String.format(", p%.0f=%.0f ms [%.0f..%.0f]",
+                        percentile, stats.percentile(percentile), interval[0], interval[1]));
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Percentile statistics over a set of latency samples in milliseconds.
+ */
+public class LatencyStats {
+
+    private final List<Double> sorted;
+
+    public LatencyStats(List<Double> samplesMillis) {
+        this.sorted = new ArrayList<>(samplesMillis);
+        Collections.sort(this.sorted);
+    }
+
+    /**
+     * Get value at percentile using nearest-rank method.
+     * @param percentile percentile in range 0..100
+     * @return sample value or 0 if there are no samples
+     */
+    public double percentile(double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.min(Math.max(rank, 1), sorted.size()) - 1);
+    }
+
+    /**
+     * Get distribution-free confidence interval for a percentile.
+     * Uses order statistics with the normal approximation of the binomial distribution.
+     * @param percentile percentile in range 0..100
+     * @param z z-score of the confidence level (1.96 for 95%)
+     * @return lower and upper bound
+     */
+    public double[] percentileConfidenceInterval(double percentile, double z) {
+        if (sorted.isEmpty()) {
+            return new double[] {0, 0};
+        }
+        int n = sorted.size();
+        double q = percentile / 100.0;
+        double spread = z * Math.sqrt(n * q * (1 - q));
+        int lower = (int) Math.floor(n * q - spread);
+        int upper = (int) Math.ceil(n * q + spread);
+        return new double[] {
+                sorted.get(Math.min(Math.max(lower, 1), n) - 1),
+                sorted.get(Math.min(Math.max(upper, 1), n) - 1)
+        };
+    }
+
+    public int getCount() {
+        return sorted.size();
+    }
+
+    public double getMin() {
+        return sorted.isEmpty() ? 0 : sorted.get(0);
+    }
+
+    public double getMax() {
+        return sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1);
+    }
+
+    public double getMean() {
+        return sorted.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    public double getP50() {
+        return percentile(50);
+    }
+
+    public double getP90() {
+        return percentile(90);
+    }
+
+    public double getP95() {
+        return percentile(95);
+    }
+
+    public double getP99() {
+        return percentile(99);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d, min=%.0f, p50=%.0f, p90=%.0f, p95=%.0f, p99=%.0f, max=%.0f ms",
+                getCount(), getMin(), getP50(), getP90(), getP95(), getP99(), getMax());
+    }
+}
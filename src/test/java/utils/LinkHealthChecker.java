@@ -0,0 +1,174 @@
+package utils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Concurrent health checker for external links.
+ * Sends HEAD requests and falls back to GET when HEAD is rejected or fails; the GET asks for the first
+ * byte only, so servers honouring {@code Range} do not send the whole page.
+ * Requests to one host are serialized and spaced by a minimum interval;
+ * results are cached per URL, so links shared across articles are checked once.
+ */
+public class LinkHealthChecker {
+
+    private final HttpClient client;
+    private final Duration timeout;
+    private final long hostIntervalMillis;
+    private final Map<String, CompletableFuture<LinkStatus>> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> hostQueues = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeout connect and response timeout per request
+     * @param hostIntervalMillis minimum delay between requests to the same host
+     */
+    public LinkHealthChecker(Duration timeout, long hostIntervalMillis) {
+        this.timeout = timeout;
+        this.hostIntervalMillis = hostIntervalMillis;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Check all links concurrently and wait for the results.
+     * @param urls links to check
+     * @return status of every distinct link
+     */
+    public List<LinkStatus> checkAll(List<String> urls) {
+        List<CompletableFuture<LinkStatus>> futures = urls.stream()
+                .distinct()
+                .map(this::check)
+                .collect(Collectors.toList());
+        List<LinkStatus> results = new ArrayList<>();
+        for (CompletableFuture<LinkStatus> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Check a single link, reusing a cached result if the link was already checked.
+     * @param url link to check
+     * @return future completed with link status
+     */
+    public CompletableFuture<LinkStatus> check(String url) {
+        return cache.computeIfAbsent(url, this::schedule);
+    }
+
+    private CompletableFuture<LinkStatus> schedule(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(new LinkStatus(url, 0, "", "Invalid URL", 0));
+        }
+        String host = String.valueOf(uri.getHost());
+        CompletableFuture<LinkStatus> result = new CompletableFuture<>();
+        hostQueues.compute(host, (key, tail) -> {
+            CompletableFuture<?> previous = tail == null ? CompletableFuture.completedFuture(null) : tail;
+            return previous
+                    .handle((ignored, error) -> null)
+                    .thenCompose(ignored -> request(uri, "HEAD"))
+                    .thenCompose(status -> needsGetFallback(status) ? request(uri, "GET") : CompletableFuture.completedFuture(status))
+                    .whenComplete((status, error) -> result.complete(error == null ? status
+                            : new LinkStatus(url, 0, "", error.getClass().getSimpleName(), 0)))
+                    .thenCompose(status -> CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(hostIntervalMillis, TimeUnit.MILLISECONDS)));
+        });
+        return result;
+    }
+
+    private CompletableFuture<LinkStatus> request(URI uri, String method) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(timeout)
+                .header("User-Agent", "Testing-services link checker");
+        if ("GET".equals(method)) {
+            builder.header("Range", "bytes=0-0");
+        }
+        HttpRequest request = builder.build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    long millis = (System.nanoTime() - start) / 1_000_000;
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        return new LinkStatus(uri.toString(), 0, method, cause.getClass().getSimpleName(), millis);
+                    }
+                    return new LinkStatus(uri.toString(), response.statusCode(), method, null, millis);
+                });
+    }
+
+    private static boolean needsGetFallback(LinkStatus status) {
+        return status.getError() != null
+                || status.getStatusCode() == 403
+                || status.getStatusCode() == 405
+                || status.getStatusCode() == 501;
+    }
+
+    /**
+     * Result of a link check.
+     */
+    public static class LinkStatus {
+
+        private final String url;
+        private final int statusCode;
+        private final String method;
+        private final String error;
+        private final long millis;
+
+        LinkStatus(String url, int statusCode, String method, String error, long millis) {
+            this.url = url;
+            this.statusCode = statusCode;
+            this.method = method;
+            this.error = error;
+            this.millis = millis;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        /**
+         * Check if link is broken.
+         * @return true if request failed or returned an error status
+         */
+        public boolean isBroken() {
+            // 416 answers the ranged GET of an empty resource, which still exists
+            return error != null || (statusCode >= 400 && statusCode != 416);
+        }
+
+        @Override
+        public String toString() {
+            return (error != null ? error : String.valueOf(statusCode)) + " " + method + " " + url;
+        }
+    }
+}
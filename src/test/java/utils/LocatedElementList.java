@@ -0,0 +1,124 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Element list resolved by its locator, like a PageFactory list field
+ * but without reflection or dynamic proxies. Every list operation runs one find command;
+ * iteration and streams work on a single snapshot. Lists are not cached by {@link ElementCache},
+ * so items are always fresh references.
+ */
+public class LocatedElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By locator;
+
+    /**
+     * @param context driver or parent element to search in
+     * @param locator elements locator
+     */
+    public LocatedElementList(SearchContext context, By locator) {
+        this.context = context;
+        this.locator = locator;
+    }
+
+    /**
+     * Get elements locator.
+     * @return locator
+     */
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Find the current elements.
+     * @return snapshot of matching elements
+     */
+    protected List<WebElement> elements() {
+        return context.findElements(locator);
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements().contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return elements().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return elements().lastIndexOf(o);
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator() {
+        return elements().listIterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return elements().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<WebElement> spliterator() {
+        return elements().spliterator();
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return elements().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return elements().toArray(a);
+    }
+
+    @Override
+    public void forEach(Consumer<? super WebElement> action) {
+        elements().forEach(action);
+    }
+
+    @Override
+    public String toString() {
+        return "Located elements " + locator;
+    }
+}
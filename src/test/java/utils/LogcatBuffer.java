@@ -0,0 +1,139 @@
+package utils;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fixed-size in-memory buffer of the app's logcat lines.
+ * Lines are streamed in the background through the Appium logcat broadcast and kept only
+ * if they belong to the app: mention the package or come from a process the ActivityManager
+ * started for it (including processes already running when streaming starts). Nothing is written to disk unless {@link #dump()} is called on failure.
+ */
+public class LogcatBuffer {
+
+    private static final Pattern START_PROC = Pattern.compile("Start proc (\\d+):([\\w.]+)");
+
+    private final String appPackage;
+    private final int capacity;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private final Set<String> appPids = ConcurrentHashMap.newKeySet();
+    private AndroidDriver driver;
+    private long dropped;
+
+    /**
+     * @param appPackage package whose lines are kept
+     * @param capacity maximum number of buffered lines
+     */
+    public LogcatBuffer(String appPackage, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Logcat buffer capacity must be positive: " + capacity);
+        }
+        this.appPackage = appPackage;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Start streaming logcat of the driver session into the buffer.
+     * Buffered lines are kept, so the buffer can be re-attached to a restarted session.
+     * @param driver AndroidDriver session
+     * @param appiumServerUrl Appium server URL, used for the logcat websocket
+     */
+    public void attach(AndroidDriver driver, URL appiumServerUrl) {
+        detach();
+        // The app is launched with the session, before streaming starts, so its "Start proc" line is missed
+        addRunningAppPids(driver);
+        this.driver = driver;
+        try {
+            driver.addLogcatMessagesListener(this::onLine);
+            driver.startLogcatBroadcast(appiumServerUrl.getHost(), appiumServerUrl.getPort());
+        } catch (RuntimeException e) {
+            detach();
+            throw e;
+        }
+    }
+
+    private void addRunningAppPids(AndroidDriver driver) {
+        try {
+            for (String pid : AdbShell.run(driver, "pidof", appPackage).trim().split("\\s+")) {
+                if (!pid.isEmpty()) {
+                    appPids.add(pid);
+                }
+            }
+        } catch (Exception e) {
+            // Shell not allowed by the Appium server, only lines mentioning the package are kept
+        }
+    }
+
+    /**
+     * Stop streaming logcat of the current session.
+     */
+    public void detach() {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.removeAllLogcatListeners();
+            driver.stopLogcatBroadcast();
+        } catch (Exception e) {
+            // Session already gone
+        }
+        driver = null;
+    }
+
+    private void onLine(String line) {
+        Matcher startProc = START_PROC.matcher(line);
+        if (startProc.find() && startProc.group(2).startsWith(appPackage)) {
+            appPids.add(startProc.group(1));
+        }
+        if (!line.contains(appPackage) && !isFromAppProcess(line)) {
+            return;
+        }
+        synchronized (lines) {
+            if (lines.size() == capacity) {
+                lines.removeFirst();
+                dropped++;
+            }
+            lines.addLast(line);
+        }
+    }
+
+    private boolean isFromAppProcess(String line) {
+        // threadtime format: date time pid tid level tag: message
+        String[] fields = line.trim().split("\\s+", 4);
+        return fields.length == 4 && appPids.contains(fields[2]);
+    }
+
+    /**
+     * Discard buffered lines, e.g. before the next test.
+     */
+    public void clear() {
+        synchronized (lines) {
+            lines.clear();
+            dropped = 0;
+        }
+    }
+
+    /**
+     * Get buffered lines as text.
+     * @return buffered lines, oldest first
+     */
+    public String dump() {
+        synchronized (lines) {
+            StringBuilder text = new StringBuilder();
+            if (dropped > 0) {
+                text.append("... ").append(dropped).append(" earlier lines dropped\n");
+            }
+            for (String line : lines) {
+                text.append(line).append('\n');
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Network capture through the Chrome DevTools Network domain.
+ * Streams finished requests into a gzip-compressed HAR-like file while recording,
+ * so only requests that are still in flight are kept in memory.
+ */
+public class NetworkCapture {
+
+    private static final Json JSON = new Json();
+
+    private final DevTools devTools;
+    private final Map<String, Map<String, Object>> inFlight = new ConcurrentHashMap<>();
+
+    private Writer writer;
+    private boolean firstEntry;
+    private Summary summary;
+
+    private NetworkCapture(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(event("Network.requestWillBeSent"), this::onRequestWillBeSent);
+        devTools.addListener(event("Network.responseReceived"), this::onResponseReceived);
+        devTools.addListener(event("Network.loadingFinished"), this::onLoadingFinished);
+        devTools.addListener(event("Network.loadingFailed"), this::onLoadingFailed);
+    }
+
+    /**
+     * Check if network capture is supported by the driver.
+     * @param driver WebDriver instance
+     * @return true if driver exposes DevTools
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * Attach network capture to the driver session.
+     * Listeners are registered once; nothing is recorded until {@link #start(Path)}.
+     * @param driver WebDriver instance supporting DevTools
+     * @return network capture bound to the session
+     */
+    public static NetworkCapture attach(WebDriver driver) {
+        return new NetworkCapture(((HasDevTools) driver).getDevTools());
+    }
+
+    /**
+     * Start recording network traffic into a compressed file.
+     * @param outputFile target file (e.g. target/network/test.har.gz)
+     */
+    public synchronized void start(Path outputFile) {
+        try {
+            Files.createDirectories(outputFile.toAbsolutePath().getParent());
+            writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(outputFile)), StandardCharsets.UTF_8));
+            writer.write("{\"log\":{\"version\":\"1.2\",\"creator\":{\"name\":\"NetworkCapture\",\"version\":\"1.0\"},\"entries\":[");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open network capture file: " + outputFile, e);
+        }
+        firstEntry = true;
+        summary = new Summary();
+        inFlight.clear();
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+    }
+
+    /**
+     * Stop recording and close the capture file.
+     * The file is closed even if the DevTools connection is already gone.
+     * @return summary of the recorded traffic
+     */
+    public Summary stop() {
+        Summary result;
+        try {
+            devTools.send(new Command<Void>("Network.disable", Map.of()));
+        } finally {
+            result = closeFile();
+        }
+        return result;
+    }
+
+    private synchronized Summary closeFile() {
+        Summary result = summary;
+        try {
+            if (writer != null) {
+                writer.write("]}}");
+                writer.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close network capture file", e);
+        } finally {
+            writer = null;
+            summary = null;
+            inFlight.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Check if capture is currently recording.
+     * @return true if recording
+     */
+    public synchronized boolean isRecording() {
+        return writer != null;
+    }
+
+    private static Event<Map<String, Object>> event(String name) {
+        return new Event<>(name, input -> input.read(Json.MAP_TYPE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestWillBeSent(Map<String, Object> params) {
+        if (!isRecording()) {
+            return;
+        }
+        String requestId = String.valueOf(params.get("requestId"));
+        Map<String, Object> redirectResponse = (Map<String, Object>) params.get("redirectResponse");
+        if (redirectResponse != null) {
+            // A redirect reuses the request id: finish the previous hop as its own entry
+            Map<String, Object> redirected = inFlight.remove(requestId);
+            if (redirected != null) {
+                putResponse(redirected, redirectResponse);
+                redirected.put("bodySize", (long) number(redirectResponse.get("encodedDataLength")));
+                complete(redirected, number(params.get("timestamp")));
+            }
+        }
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        Map<String, Object> entry = new LinkedHashMap<>();
+        double wallTime = number(params.get("wallTime"));
+        entry.put("startedDateTime", Instant.ofEpochMilli((long) (wallTime * 1000)).toString());
+        entry.put("startTimestamp", number(params.get("timestamp")));
+        entry.put("resourceType", params.get("type"));
+        entry.put("request", Map.of(
+                "method", String.valueOf(request.get("method")),
+                "url", String.valueOf(request.get("url"))));
+        inFlight.put(requestId, entry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponseReceived(Map<String, Object> params) {
+        Map<String, Object> entry = inFlight.get(String.valueOf(params.get("requestId")));
+        if (entry == null) {
+            return;
+        }
+        putResponse(entry, (Map<String, Object>) params.get("response"));
+    }
+
+    private static void putResponse(Map<String, Object> entry, Map<String, Object> response) {
+        Map<String, Object> harResponse = new LinkedHashMap<>();
+        harResponse.put("status", response.get("status"));
+        harResponse.put("mimeType", response.get("mimeType"));
+        harResponse.put("protocol", response.get("protocol"));
+        entry.put("response", harResponse);
+        if (response.get("timing") != null) {
+            entry.put("timings", response.get("timing"));
+        }
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        Map<String, Object> entry = inFlight.remove(String.valueOf(params.get("requestId")));
+        if (entry != null) {
+            entry.put("bodySize", (long) number(params.get("encodedDataLength")));
+            complete(entry, number(params.get("timestamp")));
+        }
+    }
+
+    private void onLoadingFailed(Map<String, Object> params) {
+        Map<String, Object> entry = inFlight.remove(String.valueOf(params.get("requestId")));
+        if (entry != null) {
+            entry.put("bodySize", 0L);
+            entry.put("error", params.get("errorText"));
+            complete(entry, number(params.get("timestamp")));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void complete(Map<String, Object> entry, double endTimestamp) {
+        if (writer == null) {
+            return;
+        }
+        double timeMillis = (endTimestamp - (double) entry.remove("startTimestamp")) * 1000;
+        entry.put("time", timeMillis);
+        Map<String, Object> request = (Map<String, Object>) entry.get("request");
+        summary.record(String.valueOf(request.get("url")), (long) entry.get("bodySize"), timeMillis);
+        try {
+            if (!firstEntry) {
+                writer.write(',');
+            }
+            writer.write(JSON.toJson(entry));
+            firstEntry = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write network capture entry", e);
+        }
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * Aggregated statistics of a network capture.
+     */
+    public static class Summary {
+
+        private int requestCount;
+        private long totalBytes;
+        private String slowestUrl = "";
+        private double slowestMillis;
+
+        private void record(String url, long bytes, double timeMillis) {
+            requestCount++;
+            totalBytes += bytes;
+            if (timeMillis > slowestMillis) {
+                slowestMillis = timeMillis;
+                slowestUrl = url;
+            }
+        }
+
+        public int getRequestCount() {
+            return requestCount;
+        }
+
+        public long getTotalBytes() {
+            return totalBytes;
+        }
+
+        public String getSlowestUrl() {
+            return slowestUrl;
+        }
+
+        public double getSlowestMillis() {
+            return slowestMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d, bytes=%d, slowest=%.0f ms (%s)",
+                    requestCount, totalBytes, slowestMillis, slowestUrl);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Background pool of driver sessions started ahead of the test classes that need them.
+ * Sessions are grouped by key (e.g. "browser:chrome:headless", "device:emulator-5554"); a bounded number
+ * is kept starting or ready per key, and each take starts a replacement while more classes are planned.
+ */
+public class SessionPrewarmer {
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "session-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final long DISCARD_WAIT_SECONDS = 120;
+
+    private static final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    private SessionPrewarmer() {
+    }
+
+    /**
+     * Get key of browser sessions.
+     * @param browser browser name
+     * @param headless browser mode
+     * @return session key
+     */
+    public static String browserKey(String browser, boolean headless) {
+        return "browser:" + browser + (headless ? ":headless" : "");
+    }
+
+    /**
+     * Start sessions for planned classes in the background.
+     * @param key session key
+     * @param planned number of classes that will take a session of this key
+     * @param maxReady maximum number of sessions starting or waiting at the same time
+     * @param factory creates a session
+     * @param alive checks with a cheap command that a waiting session was not closed by the server
+     */
+    public static void prewarm(String key, int planned, int maxReady, Supplier<WebDriver> factory,
+                               Predicate<WebDriver> alive) {
+        Pool pool = new Pool(planned, factory, alive);
+        if (pools.putIfAbsent(key, pool) == null) {
+            for (int i = 0; i < Math.min(planned, maxReady); i++) {
+                pool.launch();
+            }
+        }
+    }
+
+    /**
+     * Take a pre-warmed session, waiting for it to finish starting.
+     * @param key session key
+     * @return session or null if none was pre-warmed, it failed to start or is no longer alive
+     */
+    public static WebDriver take(String key) {
+        Pool pool = pools.get(key);
+        if (pool == null) {
+            return null;
+        }
+        CompletableFuture<WebDriver> session = pool.ready.poll();
+        if (session == null) {
+            return null;
+        }
+        pool.launch();
+        WebDriver driver;
+        try {
+            driver = session.join();
+        } catch (Exception e) {
+            // Failed pre-warm start, the class creates its own session
+            return null;
+        }
+        boolean alive;
+        try {
+            alive = pool.alive.test(driver);
+        } catch (Exception e) {
+            alive = false;
+        }
+        if (!alive) {
+            quit(driver);
+            return null;
+        }
+        return driver;
+    }
+
+    /**
+     * Quit sessions that were pre-warmed but not taken.
+     * Waits a bounded time for sessions that are still starting, so they are not left running
+     * when the JVM exits.
+     */
+    public static void discardAll() {
+        List<CompletableFuture<WebDriver>> sessions = new ArrayList<>();
+        for (Pool pool : pools.values()) {
+            CompletableFuture<WebDriver> session;
+            while ((session = pool.ready.poll()) != null) {
+                sessions.add(session);
+            }
+        }
+        pools.clear();
+        try {
+            CompletableFuture.allOf(sessions.toArray(new CompletableFuture<?>[0]))
+                    .get(DISCARD_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed starts have nothing to quit, slow ones are quit below if they finish
+        }
+        for (CompletableFuture<WebDriver> session : sessions) {
+            if (session.isDone() && !session.isCompletedExceptionally()) {
+                quit(session.join());
+            } else {
+                session.thenAccept(SessionPrewarmer::quit);
+            }
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            // Session already gone
+        }
+    }
+
+    private static class Pool {
+
+        private final Queue<CompletableFuture<WebDriver>> ready = new ConcurrentLinkedQueue<>();
+        private final Supplier<WebDriver> factory;
+        private final Predicate<WebDriver> alive;
+        private int remaining;
+
+        Pool(int planned, Supplier<WebDriver> factory, Predicate<WebDriver> alive) {
+            this.remaining = planned;
+            this.factory = factory;
+            this.alive = alive;
+        }
+
+        synchronized void launch() {
+            if (remaining <= 0) {
+                return;
+            }
+            remaining--;
+            ready.add(CompletableFuture.supplyAsync(factory, executor));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package utils;
+
+import config.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Factory for configured WebDriver instances.
+ * Used by web tests and by harnesses that need their own browsers (e.g. worker pools).
+ */
+public class WebDriverFactory {
+
+    private static final Map<WebDriver, DriverService> services = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private WebDriverFactory() {
+    }
+
+    /**
+     * Create WebDriver with configured timeouts.
+     * @param browser browser name (chrome, firefox, edge)
+     * @param headless run in headless mode
+     * @return WebDriver instance
+     */
+    public static WebDriver create(String browser, boolean headless) {
+        WebDriver driver = initializeDriver(browser, headless);
+        configureDriver(driver);
+        return driver;
+    }
+
+    /**
+     * Forcibly kill the driver process and its browser processes.
+     * Unlike {@link WebDriver#quit()}, does not send commands to a possibly hung driver.
+     * @param driver WebDriver created by this factory
+     */
+    public static void kill(WebDriver driver) {
+        DriverService service = services.remove(driver);
+        if (service == null) {
+            return;
+        }
+        String portArgument = "--port=" + service.getUrl().getPort();
+        ProcessHandle.current().children()
+                .filter(process -> process.info().arguments()
+                        .map(args -> Arrays.asList(args).contains(portArgument))
+                        .orElse(false))
+                .forEach(process -> {
+                    process.descendants().forEach(ProcessHandle::destroyForcibly);
+                    process.destroyForcibly();
+                });
+        service.stop();
+    }
+
+    /**
+     * Initialize WebDriver based on browser configuration.
+     * @param browser browser name
+     * @param headless run in headless mode
+     * @return WebDriver instance
+     */
+    private static WebDriver initializeDriver(String browser, boolean headless) {
+        DriverService service;
+        WebDriver driver;
+        switch (browser.toLowerCase()) {
+            case "firefox":
+                setupDriver("firefox");
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                if (headless) {
+                    firefoxOptions.addArguments("--headless");
+                }
+                GeckoDriverService geckoService = GeckoDriverService.createDefaultService();
+                service = geckoService;
+                driver = new FirefoxDriver(geckoService, firefoxOptions);
+                break;
+
+            case "edge":
+                setupDriver("edge");
+                EdgeOptions edgeOptions = new EdgeOptions();
+                if (headless) {
+                    edgeOptions.addArguments("--headless");
+                }
+                EdgeDriverService edgeService = EdgeDriverService.createDefaultService();
+                service = edgeService;
+                driver = new EdgeDriver(edgeService, edgeOptions);
+                break;
+
+            case "chrome":
+            default:
+                setupDriver("chrome");
+                ChromeOptions chromeOptions = new ChromeOptions();
+                if (headless) {
+                    chromeOptions.addArguments("--headless");
+                }
+                chromeOptions.addArguments("--disable-gpu");
+                chromeOptions.addArguments("--window-size=1920,1080");
+                chromeOptions.addArguments("--no-sandbox");
+                chromeOptions.addArguments("--disable-dev-shm-usage");
+                ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                service = chromeService;
+                driver = new ChromeDriver(chromeService, chromeOptions);
+                break;
+        }
+        services.put(driver, service);
+        return driver;
+    }
+
+    /**
+     * Make the browser driver available, through the machine-wide resolution cache if enabled.
+     * @param browser browser name (chrome, firefox, edge)
+     * @return driver binary path
+     */
+    public static String setupDriver(String browser) {
+        if (ConfigReader.isDriverCacheEnabled()) {
+            return DriverResolutionCache.setup(browser, Paths.get(ConfigReader.getDriverCacheDir()));
+        }
+        WebDriverManager manager;
+        switch (browser.toLowerCase()) {
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            case "edge":
+                manager = WebDriverManager.edgedriver();
+                break;
+            case "chrome":
+            default:
+                manager = WebDriverManager.chromedriver();
+                break;
+        }
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    /**
+     * Configure WebDriver timeouts and settings.
+     * @param driver WebDriver instance
+     */
+    private static void configureDriver(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(
+                Duration.ofSeconds(ConfigReader.getImplicitWait())
+        );
+        driver.manage().timeouts().pageLoadTimeout(
+                Duration.ofSeconds(ConfigReader.getPageLoadTimeout())
+        );
+        driver.manage().window().maximize();
+    }
+}
@@ -0,0 +1,93 @@
+package utils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Core Web Vitals collected across the documents visited during a test.
+ * Aggregates per-document values: worst LCP, CLS and INP, total long tasks.
+ */
+public class WebVitals {
+
+    private final int pageCount;
+    private final double lcpMillis;
+    private final double cls;
+    private final int longTaskCount;
+    private final double longTaskMillis;
+    private final double inpMillis;
+    private final int interactionCount;
+
+    WebVitals(List<Map<String, Object>> pages) {
+        double lcp = 0;
+        double shift = 0;
+        int tasks = 0;
+        double taskTime = 0;
+        double inp = 0;
+        int interactions = 0;
+        for (Map<String, Object> page : pages) {
+            lcp = Math.max(lcp, number(page.get("lcp")));
+            shift = Math.max(shift, number(page.get("cls")));
+            tasks += (int) number(page.get("longTaskCount"));
+            taskTime += number(page.get("longTaskTime"));
+            inp = Math.max(inp, number(page.get("inp")));
+            interactions += (int) number(page.get("interactionCount"));
+        }
+        this.pageCount = pages.size();
+        this.lcpMillis = lcp;
+        this.cls = shift;
+        this.longTaskCount = tasks;
+        this.longTaskMillis = taskTime;
+        this.inpMillis = inp;
+        this.interactionCount = interactions;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Get worst Largest Contentful Paint.
+     * @return LCP in milliseconds
+     */
+    public double getLcpMillis() {
+        return lcpMillis;
+    }
+
+    /**
+     * Get worst Cumulative Layout Shift.
+     * @return CLS score
+     */
+    public double getCls() {
+        return cls;
+    }
+
+    public int getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public double getLongTaskMillis() {
+        return longTaskMillis;
+    }
+
+    /**
+     * Get longest interaction event duration (INP-style).
+     * @return INP in milliseconds
+     */
+    public double getInpMillis() {
+        return inpMillis;
+    }
+
+    public int getInteractionCount() {
+        return interactionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pages=%d, lcp=%.0f ms, cls=%.3f, longTasks=%d (%.0f ms), inp=%.0f ms, interactions=%d",
+                pageCount, lcpMillis, cls, longTaskCount, longTaskMillis, inpMillis, interactionCount);
+    }
+}
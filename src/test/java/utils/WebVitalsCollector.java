@@ -0,0 +1,100 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PerformanceObserver-based Core Web Vitals collector.
+ * On DevTools-capable browsers the observer is injected before every navigation;
+ * elsewhere it is injected on demand and relies on buffered performance entries.
+ */
+public class WebVitalsCollector {
+
+    private static final String OBSERVER_SCRIPT = loadScript("js/web-vitals.js");
+
+    private static final String COLLECT_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            OBSERVER_SCRIPT +
+            "requestAnimationFrame(function () { setTimeout(function () {" +
+            "  var history = [];" +
+            "  try { history = JSON.parse(sessionStorage.getItem('__webVitalsHistory') || '[]'); } catch (e) {}" +
+            "  history.push(window.__webVitals);" +
+            "  done(history);" +
+            "}, 0); });";
+
+    private static final String RESET_SCRIPT =
+            "try { sessionStorage.removeItem('__webVitalsHistory'); } catch (e) {}" +
+            "var v = window.__webVitals;" +
+            "if (v) { v.lcp = 0; v.cls = 0; v.longTaskCount = 0; v.longTaskTime = 0; v.inp = 0; v.interactionCount = 0; }";
+
+    private WebVitalsCollector() {
+    }
+
+    /**
+     * Register the observer script to run before page scripts on every new document.
+     * Has no effect on browsers without DevTools support.
+     * @param driver WebDriver instance
+     */
+    public static void install(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return;
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<Void>("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", OBSERVER_SCRIPT)));
+    }
+
+    /**
+     * Collect Web Vitals of the current document and previous same-origin documents.
+     * @param driver WebDriver instance
+     * @return aggregated Web Vitals
+     */
+    @SuppressWarnings("unchecked")
+    public static WebVitals collect(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT);
+        List<Map<String, Object>> pages = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object page : (List<Object>) result) {
+                if (page instanceof Map) {
+                    pages.add((Map<String, Object>) page);
+                }
+            }
+        }
+        return new WebVitals(pages);
+    }
+
+    /**
+     * Discard values collected so far, e.g. before a new test starts.
+     * @param driver WebDriver instance
+     */
+    public static void reset(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT);
+        } catch (Exception e) {
+            // No document to reset yet
+        }
+    }
+
+    private static String loadScript(String resource) {
+        try (InputStream input = WebVitalsCollector.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalStateException("Script resource not found: " + resource);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load script resource: " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+// Animation suppression. Injected before page scripts run, makes CSS transitions
+// and animations finish instantly and disables smooth scrolling, so the UI is
+// settled right after each action. Durations are zeroed rather than removed,
+// so transitionend/animationend handlers still run.
+(function () {
+    var css = '*, *::before, *::after {' +
+        ' transition-duration: 0s !important; transition-delay: 0s !important;' +
+        ' animation-duration: 0s !important; animation-delay: 0s !important;' +
+        ' scroll-behavior: auto !important; }' +
+        ' html { scroll-behavior: auto !important; }';
+
+    function inject() {
+        var style = document.createElement('style');
+        style.setAttribute('data-test-disable-animations', '');
+        style.textContent = css;
+        (document.head || document.documentElement).appendChild(style);
+    }
+
+    if (document.documentElement) {
+        inject();
+    } else {
+        new MutationObserver(function (mutations, observer) {
+            if (document.documentElement) {
+                observer.disconnect();
+                inject();
+            }
+        }).observe(document, {childList: true});
+    }
+})();
@@ -0,0 +1,62 @@
+// Core Web Vitals observer. Injected before page scripts run, collects
+// LCP, CLS, long tasks and INP-style event timings for the current document
+// and keeps metrics of previous same-origin documents in sessionStorage.
+(function () {
+    if (window.__webVitals) {
+        return;
+    }
+    var vitals = window.__webVitals = {
+        url: location.href,
+        lcp: 0,
+        cls: 0,
+        longTaskCount: 0,
+        longTaskTime: 0,
+        inp: 0,
+        interactionCount: 0
+    };
+    var interactions = {};
+
+    function observe(type, callback, options) {
+        try {
+            var observer = new PerformanceObserver(function (list) {
+                list.getEntries().forEach(callback);
+            });
+            observer.observe(Object.assign({type: type, buffered: true}, options || {}));
+        } catch (e) {
+            // Entry type not supported by this browser
+        }
+    }
+
+    observe('largest-contentful-paint', function (entry) {
+        vitals.lcp = Math.max(vitals.lcp, entry.startTime);
+    });
+    observe('layout-shift', function (entry) {
+        if (!entry.hadRecentInput) {
+            vitals.cls += entry.value;
+        }
+    });
+    observe('longtask', function (entry) {
+        vitals.longTaskCount++;
+        vitals.longTaskTime += entry.duration;
+    });
+    observe('event', function (entry) {
+        if (!entry.interactionId) {
+            return;
+        }
+        if (!(entry.interactionId in interactions)) {
+            vitals.interactionCount++;
+        }
+        interactions[entry.interactionId] = Math.max(interactions[entry.interactionId] || 0, entry.duration);
+        vitals.inp = Math.max(vitals.inp, entry.duration);
+    }, {durationThreshold: 16});
+
+    window.addEventListener('pagehide', function () {
+        try {
+            var history = JSON.parse(sessionStorage.getItem('__webVitalsHistory') || '[]');
+            history.push(vitals);
+            sessionStorage.setItem('__webVitalsHistory', JSON.stringify(history));
+        } catch (e) {
+            // Storage not available (e.g. opaque origin)
+        }
+    });
+})();